@@ -0,0 +1,91 @@
+package com.ogcnice.footballteam.benchmark;
+
+import com.ogcnice.footballteam.FootballTeamApiApplication;
+import com.ogcnice.footballteam.dto.CreateEquipeRequest;
+import com.ogcnice.footballteam.model.Equipe;
+import com.ogcnice.footballteam.model.Joueur;
+import com.ogcnice.footballteam.service.EquipeService;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Démarrage de l'application (sans serveur web) et jeux de données des benchmarks.
+ *
+ * La base H2 embarquée démarre vide (pas d'import du fichier seed) et les logs SQL
+ * sont coupés pour ne mesurer que le code.
+ */
+final class BenchmarkContext {
+
+    private static final int SEED_LOT = 1000;
+
+    private BenchmarkContext() {
+    }
+
+    static ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(FootballTeamApiApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--equipes.import.file=",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.com.ogcnice=WARN",
+                        "--logging.level.org.hibernate.SQL=WARN",
+                        "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN");
+    }
+
+    /**
+     * Crée les équipes en base, par lots.
+     */
+    static void seed(EquipeService equipeService, int equipes, int joueursParEquipe) {
+        List<CreateEquipeRequest> lot = new ArrayList<>(SEED_LOT);
+        for (int i = 0; i < equipes; i++) {
+            lot.add(createRequest("SEED" + i, joueursParEquipe));
+            if (lot.size() == SEED_LOT) {
+                equipeService.createEquipes(lot);
+                lot.clear();
+            }
+        }
+        if (!lot.isEmpty()) {
+            equipeService.createEquipes(lot);
+        }
+    }
+
+    static CreateEquipeRequest createRequest(String acronym, int joueurs) {
+        List<CreateEquipeRequest.CreateJoueurRequest> effectif = new ArrayList<>(joueurs);
+        for (int j = 0; j < joueurs; j++) {
+            effectif.add(CreateEquipeRequest.CreateJoueurRequest.builder()
+                    .name("Joueur " + acronym + "-" + j)
+                    .position(j % 2 == 0 ? "Milieu" : "Défenseur")
+                    .build());
+        }
+        return CreateEquipeRequest.builder()
+                .name("Équipe " + acronym)
+                .acronym(acronym)
+                .budget(BigDecimal.valueOf(1_000_000L + acronym.hashCode() % 1000))
+                .joueurs(effectif)
+                .build();
+    }
+
+    /**
+     * Équipe en mémoire (IDs fictifs), pour les benchmarks de sérialisation.
+     */
+    static Equipe equipe(long id, int joueurs) {
+        Equipe equipe = Equipe.builder()
+                .id(id)
+                .name("Équipe " + id)
+                .acronym("EQ" + id)
+                .budget(BigDecimal.valueOf(1_000_000L + id))
+                .build();
+        for (int j = 0; j < joueurs; j++) {
+            equipe.addJoueur(Joueur.builder()
+                    .id(id * 1000 + j)
+                    .name("Joueur " + id + "-" + j)
+                    .position("Milieu")
+                    .build());
+        }
+        return equipe;
+    }
+}
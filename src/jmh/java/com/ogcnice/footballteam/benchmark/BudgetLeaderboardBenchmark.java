@@ -0,0 +1,61 @@
+package com.ogcnice.footballteam.benchmark;
+
+import com.ogcnice.footballteam.dto.LeaderboardEntry;
+import com.ogcnice.footballteam.stats.BudgetLeaderboard;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mesure GET /api/equipes/leaderboard et /leaderboard/{id} au niveau du classement,
+ * sans Spring ni base de données, et le reclassement d'une équipe (budget modifié).
+ * À comparer au scénario sortBudgetDesc de EquipeFilterBenchmark (même page de 20
+ * lue en base, tri et COUNT compris).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xmx2g"})
+public class BudgetLeaderboardBenchmark {
+
+    @Param({"100000"})
+    private int equipes;
+
+    private BudgetLeaderboard leaderboard;
+    private SplittableRandom random;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        leaderboard = new BudgetLeaderboard();
+        random = new SplittableRandom(42);
+        for (long id = 1; id <= equipes; id++) {
+            leaderboard.put(id, "Équipe " + id, "E" + id, budget());
+        }
+    }
+
+    @Benchmark
+    public List<LeaderboardEntry> top20() {
+        return leaderboard.top(20);
+    }
+
+    @Benchmark
+    public Optional<LeaderboardEntry> rank() {
+        return leaderboard.rank(1 + random.nextLong(equipes));
+    }
+
+    @Benchmark
+    public void reclasser() {
+        long id = 1 + random.nextLong(equipes);
+        leaderboard.put(id, "Équipe " + id, "E" + id, budget());
+    }
+
+    private BigDecimal budget() {
+        return BigDecimal.valueOf(1_000_000L + random.nextLong(500_000_000L));
+    }
+}
@@ -0,0 +1,44 @@
+package com.ogcnice.footballteam.benchmark;
+
+import com.ogcnice.footballteam.model.Equipe;
+import com.ogcnice.footballteam.service.EquipeService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mesure EquipeService.createEquipe selon le nombre de joueurs créés avec l'équipe.
+ * Chaque appel crée une nouvelle équipe : la base grossit pendant la mesure.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EquipeCreateBenchmark {
+
+    @Param({"0", "25", "500"})
+    private int joueurs;
+
+    private ConfigurableApplicationContext context;
+    private EquipeService equipeService;
+    private long compteur;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        equipeService = context.getBean(EquipeService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Equipe createEquipe() {
+        return equipeService.createEquipe(BenchmarkContext.createRequest("BENCH" + compteur++, joueurs));
+    }
+}
@@ -0,0 +1,87 @@
+package com.ogcnice.footballteam.benchmark;
+
+import com.ogcnice.footballteam.dto.EquipeFilter;
+import com.ogcnice.footballteam.dto.EquipePageResponse;
+import com.ogcnice.footballteam.service.EquipeService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mesure GET /api/equipes filtré et trié (EquipeService.getAllEquipes, sans le cache
+ * des pages) sur un grand nombre d'équipes, et affiche au démarrage le plan H2
+ * (EXPLAIN) de la requête de chaque scénario : index utilisé, tri évité ou non.
+ *
+ * Les paramètres changent à chaque opération (page, bornes, préfixe) : H2 ne réutilise
+ * pas le résultat de la requête précédente identique.
+ *
+ * Budgets des équipes générées : 1 000 000 à 1 001 999 ; noms : "Équipe SEED<n>".
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 10, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EquipeFilterBenchmark {
+
+    private static final int PAGES = 50;
+    private static final int SIZE = 20;
+
+    @Param({"100000"})
+    private int equipes;
+
+    @Param({"sortName", "sortBudgetDesc", "budgetRange", "namePrefix"})
+    private String scenario;
+
+    private ConfigurableApplicationContext context;
+    private EquipeService equipeService;
+    private int operation;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        equipeService = context.getBean(EquipeService.class);
+        BenchmarkContext.seed(equipeService, equipes, 0);
+
+        String sql = switch (scenario) {
+            case "sortName" -> "order by name, id";
+            case "sortBudgetDesc" -> "order by budget desc, id desc";
+            case "budgetRange" -> "where budget >= 1000100 and budget <= 1000110 order by budget, id";
+            case "namePrefix" -> "where name like 'Équipe SEED4242%' escape '\\' order by name, id";
+            default -> throw new IllegalArgumentException(scenario);
+        };
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        System.out.printf("%nPlan (%s) :%n%s%n", scenario, jdbcTemplate.queryForObject(
+                "explain select id, name, acronym, budget from equipe " + sql
+                        + " offset 0 rows fetch first 20 rows only", String.class));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public EquipePageResponse getAllEquipes() {
+        int i = operation++;
+        return switch (scenario) {
+            case "sortName" -> equipeService.getAllEquipes(EquipeFilter.NONE,
+                    PageRequest.of(i % PAGES, SIZE, Sort.by("name", "id")));
+            case "sortBudgetDesc" -> equipeService.getAllEquipes(EquipeFilter.NONE,
+                    PageRequest.of(i % PAGES, SIZE, Sort.by(Sort.Direction.DESC, "budget", "id")));
+            case "budgetRange" -> {
+                BigDecimal min = BigDecimal.valueOf(1_000_000L + i % 1990);
+                yield equipeService.getAllEquipes(new EquipeFilter(min, min.add(BigDecimal.TEN), null),
+                        PageRequest.of(0, SIZE, Sort.by("budget", "id")));
+            }
+            default -> equipeService.getAllEquipes(new EquipeFilter(null, null, "Équipe SEED" + (1000 + i % 9000)),
+                    PageRequest.of(0, SIZE, Sort.by("name", "id")));
+        };
+    }
+}
@@ -0,0 +1,70 @@
+package com.ogcnice.footballteam.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ogcnice.footballteam.dto.EquipePageResponse;
+import com.ogcnice.footballteam.service.EquipeService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mesure EquipeService.getAllEquipes (sans le cache des pages du contrôleur)
+ * selon la taille de page et le tri.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EquipeListBenchmark {
+
+    @Param({"1000"})
+    private int equipes;
+
+    @Param({"25"})
+    private int joueursParEquipe;
+
+    @Param({"10", "100"})
+    private int size;
+
+    @Param({"name", "budget"})
+    private String sortBy;
+
+    private ConfigurableApplicationContext context;
+    private EquipeService equipeService;
+    private ObjectMapper objectMapper;
+    private Pageable pageable;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        equipeService = context.getBean(EquipeService.class);
+        objectMapper = context.getBean(ObjectMapper.class);
+        BenchmarkContext.seed(equipeService, equipes, joueursParEquipe);
+        pageable = PageRequest.of(0, size, Sort.by(sortBy));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public EquipePageResponse getAllEquipes() {
+        return equipeService.getAllEquipes(pageable);
+    }
+
+    /**
+     * Lecture et sérialisation : le travail d'un défaut du cache des pages.
+     */
+    @Benchmark
+    public byte[] getAllEquipesJson() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(equipeService.getAllEquipes(pageable));
+    }
+}
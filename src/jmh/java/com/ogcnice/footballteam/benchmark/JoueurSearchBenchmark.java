@@ -0,0 +1,77 @@
+package com.ogcnice.footballteam.benchmark;
+
+import com.ogcnice.footballteam.dto.JoueurSearchResult;
+import com.ogcnice.footballteam.search.JoueurSearchIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mesure GET /api/joueurs/search au niveau de l'index, sans Spring ni base de données,
+ * sur des joueurs générés : prénoms accentués courants et noms de famille assemblés
+ * à partir de syllabes (plusieurs milliers de noms distincts).
+ *
+ * Les requêtes tournent sur un jeu varié : prénom seul (des milliers de candidats),
+ * préfixes courts, prénom + nom, filtre de position, termes sans résultat.
+ * Mode SampleTime : lire les percentiles p0.99 / p0.999 du résultat.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xmx3g"})
+public class JoueurSearchBenchmark {
+
+    private static final String[] PRENOMS = {
+            "Gaëtan", "Khéphren", "Marcus", "Jean-Clair", "Kasper", "Hicham", "Jérémie", "Téji",
+            "Mohamed", "Lucas", "Théo", "Kylian", "Ousmane", "Benjamin", "Florian", "Adrien",
+            "Mattéo", "Loïs", "Randal", "Noé", "Éderson", "Zoë", "Aurélien", "Youssouf",
+            "Warren", "Bradley", "Moïse", "Raphaël", "Hugo", "Clément", "Dante", "Évann"};
+    private static final String[] SYLLABES = {
+            "la", "bor", "de", "thu", "ram", "to", "di", "bo", "sch", "mei", "chel", "bou",
+            "da", "wi", "ren", "an", "ta", "lé", "go", "ma", "ni", "kè", "fa", "ro", "sé"};
+    private static final String[] POSITIONS = {"Gardien", "Défenseur", "Milieu", "Attaquant"};
+    private static final String[][] REQUETES = {
+            {"gaetan", null}, {"khephren thu", null}, {"lab", null}, {"ma", null},
+            {"jean clair to", null}, {"theo", "Attaquant"}, {"loi bou", "gardien"},
+            {"zo ren", null}, {"aurelien ladeta", null}, {"xyzzy", null}, {"t", null},
+            {"ousmane kefa", "Milieu"}};
+
+    @Param({"1000000"})
+    private int joueurs;
+
+    private JoueurSearchIndex index;
+    private int requete;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        index = new JoueurSearchIndex();
+        SplittableRandom random = new SplittableRandom(42);
+        int equipes = Math.max(1, joueurs / 25);
+        for (long e = 1; e <= equipes; e++) {
+            index.addEquipe(e, "Équipe " + e);
+        }
+        StringBuilder nom = new StringBuilder();
+        for (long id = 1; id <= joueurs; id++) {
+            nom.setLength(0);
+            nom.append(PRENOMS[random.nextInt(PRENOMS.length)]).append(' ');
+            int syllabes = 2 + random.nextInt(2);
+            for (int s = 0; s < syllabes; s++) {
+                String syllabe = SYLLABES[random.nextInt(SYLLABES.length)];
+                nom.append(s == 0 ? Character.toUpperCase(syllabe.charAt(0)) + syllabe.substring(1) : syllabe);
+            }
+            index.add(id, nom.toString(), POSITIONS[random.nextInt(POSITIONS.length)],
+                    1 + random.nextLong(equipes), 0);
+        }
+        System.out.printf("%nIndex : %d joueurs%n", index.size());
+    }
+
+    @Benchmark
+    public List<JoueurSearchResult> search() {
+        String[] r = REQUETES[requete++ % REQUETES.length];
+        return index.search(r[0], r[1], 10);
+    }
+}
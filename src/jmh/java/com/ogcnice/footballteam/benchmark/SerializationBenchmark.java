@@ -0,0 +1,77 @@
+package com.ogcnice.footballteam.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ogcnice.footballteam.dto.EquipePageResponse;
+import com.ogcnice.footballteam.dto.EquipeView;
+import com.ogcnice.footballteam.dto.TransferJoueurResponse;
+import com.ogcnice.footballteam.model.Equipe;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mesure la sérialisation Jackson des réponses de l'API, sans base de données.
+ * L'ObjectMapper est construit comme celui de Spring Boot.
+ *
+ * serializePage sérialise Page&lt;Equipe&gt; par introspection (ancienne réponse de
+ * GET /api/equipes), serializePageResponse la même page en EquipePageResponse,
+ * écrite par ses sérialiseurs dédiés. Allocations par opération : -prof gc
+ * (gc.alloc.rate.norm).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({"10", "100"})
+    private int size;
+
+    @Param({"25"})
+    private int joueursParEquipe;
+
+    private ObjectMapper objectMapper;
+    private Page<Equipe> page;
+    private EquipePageResponse pageResponse;
+    private TransferJoueurResponse transfer;
+
+    @Setup(Level.Trial)
+    public void setUp() throws JsonProcessingException {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        List<Equipe> equipes = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            equipes.add(BenchmarkContext.equipe(i, joueursParEquipe));
+        }
+        page = new PageImpl<>(equipes, PageRequest.of(0, size), 1000);
+        pageResponse = EquipePageResponse.from(page.map(EquipeView::from));
+        System.out.printf("%nTaille JSON : Page %d octets, EquipePageResponse %d octets%n",
+                serializePage().length, serializePageResponse().length);
+        transfer = TransferJoueurResponse.createFabrizioStyle(
+                "Kasper Schmeichel", "Gardien", "OGC Nice", "Paris Saint-Germain");
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] serializePageResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(pageResponse);
+    }
+
+    @Benchmark
+    public byte[] serializeTransferResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(transfer);
+    }
+}
@@ -0,0 +1,63 @@
+package com.ogcnice.footballteam.benchmark;
+
+import com.ogcnice.footballteam.dto.EquipeView;
+import com.ogcnice.footballteam.dto.TransferJoueurRequest;
+import com.ogcnice.footballteam.dto.TransferJoueurResponse;
+import com.ogcnice.footballteam.service.EquipeService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mesure EquipeService.transferJoueur selon la taille des effectifs.
+ * Le même joueur fait l'aller-retour entre deux équipes de même effectif :
+ * le coût ne doit pas dépendre de la taille de l'effectif.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TransferBenchmark {
+
+    @Param({"5", "5000"})
+    private int effectif;
+
+    private ConfigurableApplicationContext context;
+    private EquipeService equipeService;
+    private Long joueurId;
+    private Long equipeA;
+    private Long equipeB;
+    private boolean versB = true;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        equipeService = context.getBean(EquipeService.class);
+        equipeService.createEquipes(List.of(
+                BenchmarkContext.createRequest("A", effectif),
+                BenchmarkContext.createRequest("B", effectif)));
+
+        List<EquipeView> equipes = equipeService.getAllEquipes(PageRequest.of(0, 2, Sort.by("acronym"))).getContent();
+        equipeA = equipes.get(0).getId();
+        equipeB = equipes.get(1).getId();
+        joueurId = equipes.get(0).getJoueurs().get(0).getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public TransferJoueurResponse transferJoueur() {
+        TransferJoueurRequest request = new TransferJoueurRequest(joueurId, versB ? equipeB : equipeA);
+        versB = !versB;
+        return equipeService.transferJoueur(request);
+    }
+}
@@ -0,0 +1,93 @@
+package com.ogcnice.footballteam.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Générateur de charge en boucle fermée : un nombre fixe de clients simultanés,
+ * chacun envoie sa requête suivante dès la réponse reçue (sans temps de réflexion).
+ *
+ * Mesure le débit atteint et la latence à concurrence donnée. Les clients
+ * sont des chaînes d'appels asynchrones, pas des threads : 10 000 clients
+ * ne coûtent que 10 000 connexions.
+ */
+final class ClosedLoopDriver {
+
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient client;
+    private final List<Scenario> scenarios;
+    private final int totalWeight;
+    private final AtomicLong actifs = new AtomicLong();
+
+    ClosedLoopDriver(HttpClient client, List<Scenario> scenarios) {
+        this.client = client;
+        this.scenarios = scenarios;
+        this.totalWeight = Scenario.totalWeight(scenarios);
+    }
+
+    /**
+     * Fait tourner les clients jusqu'à la fin de la mesure. Les réponses
+     * aux requêtes envoyées pendant le préchauffage ne sont pas enregistrées.
+     *
+     * @return nombre de clients encore en attente de réponse à la fin de l'attente
+     */
+    long run(int clients, Duration warmup, Duration duration) throws InterruptedException {
+        long start = System.nanoTime();
+        long measureStart = start + warmup.toNanos();
+        long end = measureStart + duration.toNanos();
+
+        Thread intervals = new Thread(() -> {
+            try {
+                Thread.sleep(warmup.toMillis() + 1000);
+                while (true) {
+                    scenarios.forEach(s -> s.stats().flushInterval());
+                    Thread.sleep(1000);
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }, "closed-loop-intervals");
+        intervals.setDaemon(true);
+        intervals.start();
+
+        try {
+            for (int i = 0; i < clients; i++) {
+                actifs.incrementAndGet();
+                next(measureStart, end);
+            }
+
+            Thread.sleep(Math.max(0, (end - System.nanoTime()) / 1_000_000));
+            long deadline = System.nanoTime() + DRAIN_TIMEOUT.toNanos();
+            while (actifs.get() > 0 && System.nanoTime() < deadline) {
+                Thread.sleep(50);
+            }
+        } finally {
+            intervals.interrupt();
+            intervals.join(5000);
+            scenarios.forEach(s -> s.stats().flushInterval());
+        }
+        return actifs.get();
+    }
+
+    private void next(long measureStart, long end) {
+        long sent = System.nanoTime();
+        if (sent >= end) {
+            actifs.decrementAndGet();
+            return;
+        }
+
+        Scenario scenario = Scenario.pick(scenarios, totalWeight);
+        client.sendAsync(scenario.requests().get(), HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, error) -> {
+                    if (sent >= measureStart) {
+                        scenario.stats().record(System.nanoTime() - sent,
+                                response == null ? EndpointStats.NO_RESPONSE : response.statusCode());
+                    }
+                    next(measureStart, end);
+                });
+    }
+}
@@ -0,0 +1,106 @@
+package com.ogcnice.footballteam.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+import org.HdrHistogram.Recorder;
+
+import java.io.FileNotFoundException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latences (en nanosecondes) et codes HTTP d'un endpoint.
+ *
+ * Les latences sont enregistrées dans un Recorder HdrHistogram ; chaque
+ * seconde, l'intervalle écoulé est écrit dans le journal .hlog et cumulé
+ * dans l'histogramme total.
+ */
+final class EndpointStats {
+
+    /**
+     * Code enregistré quand la requête n'a pas reçu de réponse (timeout, connexion refusée).
+     */
+    static final int NO_RESPONSE = -1;
+
+    private static final double NANOS_PER_MS = 1_000_000.0;
+
+    private final String name;
+    private final Recorder recorder = new Recorder(3);
+    private final Histogram total = new Histogram(3);
+    private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+    private final HistogramLogWriter logWriter;
+
+    EndpointStats(String name, Path outputDir) throws FileNotFoundException {
+        this.name = name;
+        this.logWriter = new HistogramLogWriter(outputDir.resolve(name + ".hlog").toFile());
+        logWriter.outputComment("[Latences de " + name + " en ns]");
+        logWriter.outputLogFormatVersion();
+        logWriter.outputStartTime(System.currentTimeMillis());
+        logWriter.outputLegend();
+    }
+
+    String name() {
+        return name;
+    }
+
+    void record(long latencyNanos, int status) {
+        recorder.recordValue(latencyNanos);
+        statuses.computeIfAbsent(status, s -> new LongAdder()).increment();
+    }
+
+    /**
+     * Écrit l'intervalle écoulé dans le journal et le cumule au total.
+     */
+    synchronized void flushInterval() {
+        Histogram interval = recorder.getIntervalHistogram();
+        logWriter.outputIntervalHistogram(interval);
+        total.add(interval);
+    }
+
+    /**
+     * Écrit la distribution des percentiles (en ms) au format .hgrm.
+     */
+    synchronized void writePercentiles(Path outputDir) throws FileNotFoundException {
+        try (PrintStream out = new PrintStream(outputDir.resolve(name + ".hgrm").toFile())) {
+            total.outputPercentileDistribution(out, NANOS_PER_MS);
+        }
+        logWriter.close();
+    }
+
+    synchronized Map<String, Object> summary(double seconds) {
+        long requests = total.getTotalCount();
+        long errors = statuses.entrySet().stream()
+                .filter(entry -> entry.getKey() == NO_RESPONSE || entry.getKey() >= 400)
+                .mapToLong(entry -> entry.getValue().sum())
+                .sum();
+
+        Map<String, Object> latency = new LinkedHashMap<>();
+        latency.put("p50", percentile(50));
+        latency.put("p95", percentile(95));
+        latency.put("p99", percentile(99));
+        latency.put("p99.9", percentile(99.9));
+        latency.put("max", total.getMaxValue() / NANOS_PER_MS);
+        latency.put("mean", total.getMean() / NANOS_PER_MS);
+
+        Map<String, Long> codes = new TreeMap<>();
+        statuses.forEach((status, count) -> codes.put(String.valueOf(status), count.sum()));
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("requests", requests);
+        summary.put("throughput", requests / seconds);
+        summary.put("errors", errors);
+        summary.put("errorRate", requests == 0 ? 0.0 : (double) errors / requests);
+        summary.put("statusCodes", codes);
+        summary.put("latencyMs", latency);
+        return summary;
+    }
+
+    private double percentile(double percentile) {
+        return total.getValueAtPercentile(percentile) / NANOS_PER_MS;
+    }
+}
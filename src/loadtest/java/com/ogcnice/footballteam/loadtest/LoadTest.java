@@ -0,0 +1,307 @@
+package com.ogcnice.footballteam.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.ogcnice.footballteam.FootballTeamApiApplication;
+import com.ogcnice.footballteam.dto.CreateEquipeRequest;
+import com.ogcnice.footballteam.dto.TransferJoueurRequest;
+import com.ogcnice.footballteam.service.EquipeService;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Test de charge HTTP de bout en bout.
+ *
+ * Démarre l'application sur un port aléatoire (H2 embarquée),
+ * ajoute un jeu de données, puis envoie un mélange de GET /api/equipes,
+ * POST /api/equipes et POST /api/equipes/transfer :
+ * - en boucle ouverte (par défaut) : débit fixe, voir {@link OpenLoopDriver}
+ * - en boucle fermée si clients est donné : N clients simultanés pour chaque
+ *   valeur de la liste, voir {@link ClosedLoopDriver}
+ *
+ * Résultats (dans --output, dans un sous-dossier clients-N en boucle fermée) :
+ * - summary.json : débit, taux d'erreur, codes HTTP et percentiles par endpoint
+ * - &lt;endpoint&gt;.hlog : journal HdrHistogram par seconde (comparaison entre runs)
+ * - &lt;endpoint&gt;.hgrm : distribution des percentiles en ms
+ *
+ * Options (cle=valeur, préfixe -- facultatif) :
+ * - rate (200) : requêtes par seconde, tous endpoints confondus
+ * - clients : liste de niveaux de concurrence (ex: 100,1000,10000), remplace rate
+ * - threads (platform) : platform ou virtual (threads virtuels, Java 21+)
+ * - logging (quiet) : quiet (WARN, SQL coupé), dev (niveaux de application.properties)
+ *   ou prod (profil prod : JSON asynchrone, logs de requêtes échantillonnés)
+ * - duration (30s), warmup (10s) : par niveau de concurrence
+ * - mix (list:80,create:5,transfer:15) : poids de chaque endpoint
+ * - equipes (200), joueurs (25) : jeu de données ajouté au seed
+ * - output (target/loadtest)
+ *
+ * Le générateur tourne dans la même JVM que l'application : les résultats
+ * se comparent d'un run à l'autre sur la même machine.
+ */
+public final class LoadTest {
+
+    private static final int SEED_LOT = 1000;
+    private static final int PAGE_SIZE = 10;
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        double rate = Double.parseDouble(options.getOrDefault("rate", "200"));
+        List<Integer> clients = parseClients(options.get("clients"));
+        boolean virtual = parseThreads(options.getOrDefault("threads", "platform"));
+        String logging = options.getOrDefault("logging", "quiet");
+        Duration duration = DurationStyle.detectAndParse(options.getOrDefault("duration", "30s"));
+        Duration warmup = DurationStyle.detectAndParse(options.getOrDefault("warmup", "10s"));
+        Map<String, Integer> mix = parseMix(options.getOrDefault("mix", "list:80,create:5,transfer:15"));
+        int equipes = Integer.parseInt(options.getOrDefault("equipes", "200"));
+        int joueurs = Integer.parseInt(options.getOrDefault("joueurs", "25"));
+        Path output = Path.of(options.getOrDefault("output", "target/loadtest"));
+        Files.createDirectories(output);
+
+        try (ConfigurableApplicationContext context = start(virtual, logging)) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            URI base = URI.create("http://localhost:" + port);
+
+            seed(context.getBean(EquipeService.class), equipes, joueurs);
+            JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+            Cibles cibles = new Cibles(base,
+                    context.getBean(ObjectMapper.class),
+                    jdbc.queryForList("select id from equipe", Long.class),
+                    jdbc.queryForList("select id from joueur", Long.class),
+                    new AtomicLong());
+
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(REQUEST_TIMEOUT)
+                    .build();
+
+            Map<String, Object> report = new LinkedHashMap<>();
+            report.put("threads", virtual ? "virtual" : "platform");
+            report.put("logging", logging);
+            report.put("javaVersion", Runtime.version().toString());
+            report.put("durationSeconds", duration.toMillis() / 1000.0);
+            report.put("warmupSeconds", warmup.toMillis() / 1000.0);
+
+            if (clients.isEmpty()) {
+                System.out.printf("Charge : %.0f req/s pendant %s (préchauffage %s) sur %s%n",
+                        rate, duration, warmup, base);
+                List<Scenario> scenarios = cibles.scenarios(mix, output);
+                long sansReponse = new OpenLoopDriver(client, scenarios).run(rate, warmup, duration);
+                report.put("targetRate", rate);
+                report.putAll(results(scenarios, output, duration, sansReponse));
+            } else {
+                List<Object> runs = new ArrayList<>();
+                for (int concurrence : clients) {
+                    System.out.printf("Charge : %d clients pendant %s (préchauffage %s), threads %s sur %s%n",
+                            concurrence, duration, warmup, report.get("threads"), base);
+                    Path dir = Files.createDirectories(output.resolve("clients-" + concurrence));
+                    List<Scenario> scenarios = cibles.scenarios(mix, dir);
+                    long enAttente = new ClosedLoopDriver(client, scenarios).run(concurrence, warmup, duration);
+                    Map<String, Object> run = new LinkedHashMap<>();
+                    run.put("clients", concurrence);
+                    run.putAll(results(scenarios, dir, duration, enAttente));
+                    runs.add(run);
+                }
+                report.put("runs", runs);
+            }
+
+            String json = cibles.objectMapper().copy()
+                    .enable(SerializationFeature.INDENT_OUTPUT)
+                    .writeValueAsString(report);
+            Files.writeString(output.resolve("summary.json"), json);
+            System.out.println(json);
+            System.out.println("Résultats écrits dans " + output.toAbsolutePath());
+        }
+    }
+
+    /**
+     * Endpoints appelés et données existantes qu'ils ciblent.
+     */
+    private record Cibles(URI base, ObjectMapper objectMapper,
+                          List<Long> equipeIds, List<Long> joueurIds, AtomicLong acronymes) {
+
+        List<Scenario> scenarios(Map<String, Integer> mix, Path output) throws IOException {
+            int pages = Math.max(1, (equipeIds.size() + PAGE_SIZE - 1) / PAGE_SIZE);
+            List<Scenario> scenarios = new ArrayList<>();
+            for (Map.Entry<String, Integer> entry : mix.entrySet()) {
+                EndpointStats stats = new EndpointStats(entry.getKey(), output);
+                scenarios.add(new Scenario(stats, entry.getValue(), switch (entry.getKey()) {
+                    case "list" -> () -> get(base.resolve("/api/equipes?size=" + PAGE_SIZE
+                            + "&page=" + ThreadLocalRandom.current().nextInt(pages)));
+                    case "create" -> () -> post(base.resolve("/api/equipes"), json(objectMapper,
+                            createRequest("LT" + acronymes.incrementAndGet(), 5)));
+                    case "transfer" -> () -> post(base.resolve("/api/equipes/transfer"), json(objectMapper,
+                            new TransferJoueurRequest(random(joueurIds), random(equipeIds))));
+                    default -> throw new IllegalArgumentException("Endpoint inconnu dans --mix : " + entry.getKey());
+                }));
+            }
+            return scenarios;
+        }
+    }
+
+    /**
+     * Écrit les percentiles de chaque endpoint et renvoie le résumé du run.
+     */
+    private static Map<String, Object> results(List<Scenario> scenarios, Path output,
+                                               Duration duration, long sansReponse) throws IOException {
+        double seconds = duration.toMillis() / 1000.0;
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        long total = 0;
+        for (Scenario scenario : scenarios) {
+            scenario.stats().writePercentiles(output);
+            Map<String, Object> summary = scenario.stats().summary(seconds);
+            total += (long) summary.get("requests");
+            endpoints.put(scenario.stats().name(), summary);
+        }
+
+        Map<String, Object> results = new LinkedHashMap<>();
+        results.put("achievedRate", total / seconds);
+        results.put("unanswered", sansReponse);
+        results.put("endpoints", endpoints);
+        return results;
+    }
+
+    private static ConfigurableApplicationContext start(boolean virtual, String logging) {
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(FootballTeamApiApplication.class);
+        List<String> args = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.threads.virtual.enabled=" + virtual));
+        switch (logging) {
+            case "quiet" -> args.addAll(List.of(
+                    "--spring.jpa.show-sql=false",
+                    "--logging.level.com.ogcnice=WARN",
+                    "--logging.level.org.hibernate.SQL=WARN",
+                    "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"));
+            case "dev" -> {
+            }
+            case "prod" -> builder.profiles("prod");
+            default -> throw new IllegalArgumentException("--logging attend quiet, dev ou prod : " + logging);
+        }
+        return builder.run(args.toArray(String[]::new));
+    }
+
+    private static void seed(EquipeService equipeService, int equipes, int joueurs) {
+        List<CreateEquipeRequest> lot = new ArrayList<>(SEED_LOT);
+        for (int i = 0; i < equipes; i++) {
+            lot.add(createRequest("SEED" + i, joueurs));
+            if (lot.size() == SEED_LOT) {
+                equipeService.createEquipes(lot);
+                lot.clear();
+            }
+        }
+        if (!lot.isEmpty()) {
+            equipeService.createEquipes(lot);
+        }
+    }
+
+    private static CreateEquipeRequest createRequest(String acronym, int joueurs) {
+        List<CreateEquipeRequest.CreateJoueurRequest> effectif = new ArrayList<>(joueurs);
+        for (int j = 0; j < joueurs; j++) {
+            effectif.add(CreateEquipeRequest.CreateJoueurRequest.builder()
+                    .name("Joueur " + acronym + "-" + j)
+                    .position("Milieu")
+                    .build());
+        }
+        return CreateEquipeRequest.builder()
+                .name("Équipe " + acronym)
+                .acronym(acronym)
+                .budget(BigDecimal.valueOf(1_000_000L + ThreadLocalRandom.current().nextInt(1_000_000)))
+                .joueurs(effectif)
+                .build();
+    }
+
+    private static HttpRequest get(URI uri) {
+        return HttpRequest.newBuilder(uri)
+                .timeout(REQUEST_TIMEOUT)
+                .GET()
+                .build();
+    }
+
+    private static HttpRequest post(URI uri, byte[] body) {
+        return HttpRequest.newBuilder(uri)
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                .build();
+    }
+
+    private static byte[] json(ObjectMapper objectMapper, Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static Long random(List<Long> ids) {
+        return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            String option = arg.startsWith("--") ? arg.substring(2) : arg;
+            int egal = option.indexOf('=');
+            if (egal <= 0) {
+                throw new IllegalArgumentException("Option attendue au format cle=valeur : " + arg);
+            }
+            options.put(option.substring(0, egal), option.substring(egal + 1));
+        }
+        return options;
+    }
+
+    private static List<Integer> parseClients(String clients) {
+        List<Integer> niveaux = new ArrayList<>();
+        if (clients != null) {
+            for (String part : clients.split(",")) {
+                niveaux.add(Integer.parseInt(part.trim()));
+            }
+        }
+        return niveaux;
+    }
+
+    private static boolean parseThreads(String threads) {
+        return switch (threads) {
+            case "platform" -> false;
+            case "virtual" -> {
+                if (Runtime.version().feature() < 21) {
+                    throw new IllegalArgumentException("threads=virtual demande Java 21 ou plus (profil Maven java21)");
+                }
+                yield true;
+            }
+            default -> throw new IllegalArgumentException("threads attendu : platform ou virtual, pas " + threads);
+        };
+    }
+
+    private static Map<String, Integer> parseMix(String mix) {
+        Map<String, Integer> poids = new LinkedHashMap<>();
+        for (String part : mix.split(",")) {
+            String[] nomPoids = part.split(":");
+            poids.put(nomPoids[0].trim(), Integer.parseInt(nomPoids[1].trim()));
+        }
+        return poids;
+    }
+}
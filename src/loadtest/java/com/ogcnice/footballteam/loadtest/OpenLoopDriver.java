@@ -0,0 +1,89 @@
+package com.ogcnice.footballteam.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Générateur de charge en boucle ouverte : les requêtes partent à un débit fixe,
+ * qu'elles aient reçu leur réponse ou non.
+ *
+ * La latence est mesurée depuis l'instant d'envoi prévu, pas depuis l'envoi réel :
+ * un serveur saturé qui retarde l'envoi des requêtes suivantes
+ * (omission coordonnée) reste visible dans les percentiles.
+ */
+final class OpenLoopDriver {
+
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient client;
+    private final List<Scenario> scenarios;
+    private final int totalWeight;
+    private final AtomicLong inFlight = new AtomicLong();
+
+    OpenLoopDriver(HttpClient client, List<Scenario> scenarios) {
+        this.client = client;
+        this.scenarios = scenarios;
+        this.totalWeight = Scenario.totalWeight(scenarios);
+    }
+
+    /**
+     * Envoie les requêtes au débit demandé. Les réponses reçues pendant
+     * le préchauffage ne sont pas enregistrées.
+     *
+     * @return nombre de requêtes encore sans réponse à la fin de l'attente
+     */
+    long run(double ratePerSecond, Duration warmup, Duration duration) throws InterruptedException {
+        long intervalNanos = (long) (1_000_000_000L / ratePerSecond);
+        long start = System.nanoTime();
+        long measureStart = start + warmup.toNanos();
+        long end = measureStart + duration.toNanos();
+
+        ScheduledExecutorService intervals = Executors.newSingleThreadScheduledExecutor();
+        intervals.scheduleAtFixedRate(() -> scenarios.forEach(s -> s.stats().flushInterval()),
+                warmup.toMillis() + 1000, 1000, TimeUnit.MILLISECONDS);
+
+        try {
+            for (long i = 0; ; i++) {
+                long intended = start + i * intervalNanos;
+                if (intended >= end) {
+                    break;
+                }
+                long wait = intended - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                send(Scenario.pick(scenarios, totalWeight), intended, intended >= measureStart);
+            }
+
+            long deadline = System.nanoTime() + DRAIN_TIMEOUT.toNanos();
+            while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+                Thread.sleep(50);
+            }
+        } finally {
+            intervals.shutdownNow();
+            intervals.awaitTermination(5, TimeUnit.SECONDS);
+            scenarios.forEach(s -> s.stats().flushInterval());
+        }
+        return inFlight.get();
+    }
+
+    private void send(Scenario scenario, long intended, boolean measured) {
+        inFlight.incrementAndGet();
+        client.sendAsync(scenario.requests().get(), HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, error) -> {
+                    long latency = System.nanoTime() - intended;
+                    if (measured) {
+                        scenario.stats().record(latency,
+                                response == null ? EndpointStats.NO_RESPONSE : response.statusCode());
+                    }
+                    inFlight.decrementAndGet();
+                });
+    }
+}
@@ -0,0 +1,30 @@
+package com.ogcnice.footballteam.loadtest;
+
+import java.net.http.HttpRequest;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Endpoint appelé avec un poids dans le mélange de requêtes.
+ */
+record Scenario(EndpointStats stats, int weight, Supplier<HttpRequest> requests) {
+
+    /**
+     * Tire un endpoint au hasard selon les poids.
+     */
+    static Scenario pick(List<Scenario> scenarios, int totalWeight) {
+        int tirage = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Scenario scenario : scenarios) {
+            tirage -= scenario.weight();
+            if (tirage < 0) {
+                return scenario;
+            }
+        }
+        throw new IllegalStateException("Mélange de requêtes vide");
+    }
+
+    static int totalWeight(List<Scenario> scenarios) {
+        return scenarios.stream().mapToInt(Scenario::weight).sum();
+    }
+}
@@ -2,14 +2,17 @@ package com.ogcnice.footballteam;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Classe principale de l'application Spring Boot.
  *
  * L'application démarre sur le port 8080 par défaut.
  * Console H2 disponible sur: http://localhost:8080/h2-console
+ * Les tâches @Scheduled (ex: reconstruction des statistiques) sont activées ici.
  */
 @SpringBootApplication
+@EnableScheduling
 public class FootballTeamApiApplication {
 
 	public static void main(String[] args) {
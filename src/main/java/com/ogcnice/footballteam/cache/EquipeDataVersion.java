@@ -0,0 +1,45 @@
+package com.ogcnice.footballteam.cache;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Version des données équipes/joueurs, incrémentée après chaque écriture validée.
+ *
+ * Sert à dériver les ETag des pages : tant que la version n'a pas changé,
+ * une page déjà envoyée au client est toujours à jour.
+ * L'époque (instant de démarrage) est incluse pour qu'un ETag émis avant un
+ * redémarrage ne corresponde jamais à une version recomptée depuis zéro.
+ */
+@Component
+public class EquipeDataVersion {
+
+    private final String epoch = Long.toHexString(System.currentTimeMillis());
+    private final AtomicLong version = new AtomicLong();
+
+    /**
+     * Version courante des données.
+     */
+    public long current() {
+        return version.get();
+    }
+
+    /**
+     * Passe à la version suivante. À appeler une fois l'écriture validée
+     * et les caches invalidés.
+     */
+    public void increment() {
+        version.incrementAndGet();
+    }
+
+    /**
+     * ETag fort d'une ressource pour une version donnée.
+     *
+     * @param version version des données lue avant de produire la ressource
+     * @param resource identifiant de la ressource (ex: paramètres de la page)
+     */
+    public String etag(long version, String resource) {
+        return "\"" + epoch + "-" + version + "-" + resource + "\"";
+    }
+}
@@ -0,0 +1,177 @@
+package com.ogcnice.footballteam.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.ogcnice.footballteam.dto.EquipeFilter;
+import com.ogcnice.footballteam.dto.EquipePageResponse;
+import com.ogcnice.footballteam.dto.EquipeView;
+import com.ogcnice.footballteam.dto.PageCacheStatsResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Cache en mémoire des pages de GET /api/equipes, stockées déjà sérialisées en JSON.
+ *
+ * Borné en octets (politique W-TinyLFU de Caffeine) avec une durée de vie.
+ * Les compteurs sont publiés dans Micrometer (cache.* avec cache=equipes.pages).
+ * Le service invalide le cache après le commit de ses écritures :
+ * - création d'équipe : toutes les pages (tri et totaux changent)
+ * - transfert : uniquement les pages contenant une des équipes concernées
+ *
+ * La page est chargée hors du verrou de la map du cache (cache asynchrone) :
+ * un thread virtuel bloqué sur JDBC pendant le chargement ne reste pas
+ * épinglé à son thread porteur.
+ */
+@Component
+public class EquipePageCache {
+
+    private final AsyncCache<PageKey, Entry> cache;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Incrémenté à chaque invalidation : une page lue avant une écriture
+     * et sérialisée après son commit n'est pas conservée.
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    public EquipePageCache(ObjectMapper objectMapper,
+                           MeterRegistry meterRegistry,
+                           @Value("${equipes.page-cache.max-size:32MB}") DataSize maxSize,
+                           @Value("${equipes.page-cache.ttl:30s}") Duration ttl) {
+        this.objectMapper = objectMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher((PageKey key, Entry entry) -> entry.json().length)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "equipes.pages");
+    }
+
+    /**
+     * Clé d'une page : les paramètres de GET /api/equipes après validation.
+     */
+    public record PageKey(int page, int size, String sortBy, Sort.Direction direction, EquipeFilter filter) {
+    }
+
+    /**
+     * Page sérialisée et IDs des équipes qu'elle contient.
+     */
+    private record Entry(byte[] json, Set<Long> equipeIds) {
+    }
+
+    /**
+     * Renvoie le JSON de la page, en le calculant au besoin.
+     * Deux requêtes simultanées sur la même page ne la chargent qu'une fois.
+     *
+     * @param key paramètres de la page
+     * @param loader lecture de la page en base (appelée uniquement en cas d'absence)
+     * @return JSON de la page
+     */
+    public byte[] get(PageKey key, Supplier<EquipePageResponse> loader) {
+        long generationAvant = generation.get();
+
+        // Seul le premier appelant réserve l'entrée ; il la charge ensuite
+        // dans son propre thread (transaction et compteurs de la requête)
+        CompletableFuture<Entry> reservation = new CompletableFuture<>();
+        CompletableFuture<Entry> future = cache.get(key, (k, executor) -> reservation);
+        if (future == reservation) {
+            try {
+                reservation.complete(load(loader));
+            } catch (RuntimeException ex) {
+                // Une future en échec est retirée du cache par Caffeine
+                reservation.completeExceptionally(ex);
+                throw ex;
+            }
+        }
+        Entry entry;
+        try {
+            entry = future.join();
+        } catch (CompletionException ex) {
+            // Chargement en échec dans un autre thread : même erreur que pour lui
+            throw ex.getCause() instanceof RuntimeException cause ? cause : ex;
+        }
+
+        // Une écriture a été validée pendant le chargement : la page peut être périmée
+        if (generation.get() != generationAvant) {
+            cache.asMap().remove(key, future);
+        }
+        return entry.json();
+    }
+
+    /**
+     * Vide le cache.
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        cache.synchronous().invalidateAll();
+    }
+
+    /**
+     * Invalide les pages contenant au moins une des équipes données,
+     * ainsi que les pages en cours de chargement (lues peut-être avant le commit).
+     *
+     * Une page en cours de chargement n'apparaît pas dans la vue synchrone du cache :
+     * sans ce retrait, une requête arrivée après le commit rejoindrait ce chargement
+     * et servirait la page périmée sous l'ETag de la nouvelle version.
+     */
+    public void invalidateEquipes(Collection<Long> equipeIds) {
+        generation.incrementAndGet();
+        cache.asMap().forEach((key, future) -> {
+            if (!future.isDone() || contient(future, equipeIds)) {
+                cache.asMap().remove(key, future);
+            }
+        });
+    }
+
+    /**
+     * Compteurs du cache, pour le dimensionner.
+     */
+    public PageCacheStatsResponse stats() {
+        CacheStats stats = cache.synchronous().stats();
+        return PageCacheStatsResponse.builder()
+                .hits(stats.hitCount())
+                .misses(stats.missCount())
+                .hitRate(stats.hitRate())
+                .evictions(stats.evictionCount())
+                .entries(cache.synchronous().estimatedSize())
+                .build();
+    }
+
+    /**
+     * Page chargée contenant une des équipes (une future en échec est retirée aussi).
+     */
+    private static boolean contient(CompletableFuture<Entry> future, Collection<Long> equipeIds) {
+        return future.isCompletedExceptionally()
+                || future.join().equipeIds().stream().anyMatch(equipeIds::contains);
+    }
+
+    private Entry load(Supplier<EquipePageResponse> loader) {
+        EquipePageResponse page = loader.get();
+        Set<Long> ids = page.getContent().stream()
+                .map(EquipeView::getId)
+                .collect(Collectors.toUnmodifiableSet());
+        try {
+            return new Entry(objectMapper.writeValueAsBytes(page), ids);
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
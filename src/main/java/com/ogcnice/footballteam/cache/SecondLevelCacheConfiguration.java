@@ -0,0 +1,72 @@
+package com.ogcnice.footballteam.cache;
+
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
+
+import javax.cache.CacheManager;
+import java.io.IOException;
+
+/**
+ * Cache de second niveau Hibernate (entités Equipe et Joueur, effectifs, requêtes par acronyme).
+ *
+ * Le CacheManager JCache (Caffeine, en mémoire) est créé pour ce contexte Spring à partir
+ * de hibernate-cache.conf, passé à Hibernate et fermé avec le contexte. Celui de
+ * Caching.getCachingProvider() est partagé par toute la JVM : deux contextes sur deux
+ * bases (les tests, par exemple) y liraient les entrées l'un de l'autre sous les mêmes IDs.
+ *
+ * Le taux de succès de chaque région est publié dans la jauge equipes.cache.l2.hit.ratio
+ * (tag region) ; les compteurs bruts sont dans hibernate.second.level.cache.requests.
+ */
+@Configuration
+public class SecondLevelCacheConfiguration {
+
+    /**
+     * Régions et tailles du cache, au format de la configuration JCache de Caffeine.
+     */
+    private static final String CONFIGURATION = "hibernate-cache.conf";
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager() throws IOException {
+        return new CaffeineCachingProvider()
+                .getCacheManager(new ClassPathResource(CONFIGURATION).getURI(), getClass().getClassLoader());
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    @Bean
+    public MeterBinder secondLevelCacheHitRatio(EntityManagerFactory entityManagerFactory) {
+        return registry -> {
+            Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+            for (String region : statistics.getSecondLevelCacheRegionNames()) {
+                Gauge.builder("equipes.cache.l2.hit.ratio", statistics, s -> tauxDeSucces(s.getCacheRegionStatistics(region)))
+                        .tag("region", region)
+                        .description("Part des lectures du cache de second niveau servies par la région")
+                        .register(registry);
+            }
+        };
+    }
+
+    /**
+     * Succès / lectures depuis le démarrage, NaN tant que la région n'a pas été lue.
+     */
+    private static double tauxDeSucces(CacheRegionStatistics region) {
+        if (region == null) {
+            return Double.NaN;
+        }
+        long lectures = region.getHitCount() + region.getMissCount();
+        return lectures == 0 ? Double.NaN : (double) region.getHitCount() / lectures;
+    }
+}
@@ -1,28 +1,68 @@
 package com.ogcnice.footballteam.controller;
 
+import com.ogcnice.footballteam.cache.EquipeDataVersion;
+import com.ogcnice.footballteam.cache.EquipePageCache;
+import com.ogcnice.footballteam.dto.BatchTransferRequest;
+import com.ogcnice.footballteam.dto.BulkCreateEquipeRequest;
+import com.ogcnice.footballteam.dto.BulkCreateEquipeResponse;
 import com.ogcnice.footballteam.dto.CreateEquipeRequest;
+import com.ogcnice.footballteam.dto.CursorPage;
+import com.ogcnice.footballteam.dto.EquipeCursor;
+import com.ogcnice.footballteam.dto.EquipeFilter;
+import com.ogcnice.footballteam.dto.EquipeStatsResponse;
+import com.ogcnice.footballteam.dto.EquipeView;
+import com.ogcnice.footballteam.dto.LeaderboardEntry;
+import com.ogcnice.footballteam.dto.LeagueStatsResponse;
+import com.ogcnice.footballteam.dto.PageCacheStatsResponse;
 import com.ogcnice.footballteam.dto.TransferJoueurRequest;
 import com.ogcnice.footballteam.dto.TransferJoueurResponse;
+import com.ogcnice.footballteam.dto.TransferStatusResponse;
+import com.ogcnice.footballteam.exception.InvalidCursorException;
 import com.ogcnice.footballteam.model.Equipe;
+import com.ogcnice.footballteam.model.TransferHistory;
+import com.ogcnice.footballteam.service.EquipeExportService;
 import com.ogcnice.footballteam.service.EquipeService;
+import com.ogcnice.footballteam.service.EquipeStatsService;
+import com.ogcnice.footballteam.service.TransferHistoryService;
+import com.ogcnice.footballteam.service.TransferQueueService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.util.List;
 
 /**
  * Contrôleur REST pour la gestion des équipes de football.
  *
  * Endpoints disponibles:
  * - GET /api/equipes : Liste paginée et triée des équipes
+ * - GET /api/equipes?cursor=... : Liste paginée par curseur (keyset)
+ * - GET /api/equipes/by-acronym/{acronym} : Une équipe et ses joueurs par acronyme
+ * - GET /api/equipes/cache/stats : Compteurs du cache des pages
+ * - GET /api/equipes/export : Export NDJSON de toutes les équipes et joueurs
+ * - GET /api/equipes/stats : Statistiques de la ligue
+ * - GET /api/equipes/leaderboard : Équipes au plus gros budget
+ * - GET /api/equipes/leaderboard/{id} : Rang d'une équipe au classement des budgets
+ * - GET /api/equipes/{id}/stats : Statistiques d'une équipe
+ * - GET /api/equipes/{id}/transfers : Historique des arrivées et départs d'une équipe
  * - POST /api/equipes : Création d'une nouvelle équipe
+ * - POST /api/equipes/bulk : Création en masse d'équipes
  * - POST /api/equipes/transfer : Transfert d'un joueur
+ * - POST /api/equipes/transfer?async=true : Transfert mis en file (202)
+ * - GET /api/equipes/transfer/{id} : État d'un transfert mis en file
+ * - POST /api/equipes/transfers/batch : Lot de transferts en une transaction
  */
 @RestController
 @RequestMapping("/api/equipes")
@@ -31,6 +71,12 @@ import org.springframework.web.bind.annotation.*;
 public class EquipeController {
 
     private final EquipeService equipeService;
+    private final EquipeExportService equipeExportService;
+    private final TransferQueueService transferQueueService;
+    private final TransferHistoryService transferHistoryService;
+    private final EquipeStatsService equipeStatsService;
+    private final EquipePageCache equipePageCache;
+    private final EquipeDataVersion equipeDataVersion;
 
     /**
      * Récupère la liste paginée des équipes.
@@ -39,47 +85,240 @@ public class EquipeController {
      * @param size taille de la page (défaut: 10)
      * @param sortBy champ de tri (défaut: name). Options: name, acronym, budget
      * @param sortDir direction du tri (défaut: asc). Options: asc, desc
-     * @return Page d'équipes avec leurs joueurs
+     * @param minBudget budget minimal, inclus (optionnel)
+     * @param maxBudget budget maximal, inclus (optionnel)
+     * @param namePrefix début du nom, sensible à la casse (optionnel)
+     * @return Page d'équipes avec leurs joueurs (JSON servi depuis le cache si possible),
+     *         ou 304 Not Modified si l'ETag envoyé dans If-None-Match est toujours valable
      *
      * Exemples d'utilisation:
      * - GET /api/equipes
      * - GET /api/equipes?page=0&size=5
      * - GET /api/equipes?sortBy=budget&sortDir=desc
      * - GET /api/equipes?page=1&size=10&sortBy=acronym&sortDir=asc
+     * - GET /api/equipes?minBudget=100000000&sortBy=budget&sortDir=desc
+     * - GET /api/equipes?namePrefix=Olympique&maxBudget=200000000
      */
     @GetMapping
-    public ResponseEntity<Page<Equipe>> getAllEquipes(
+    public ResponseEntity<byte[]> getAllEquipes(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "name") String sortBy,
-            @RequestParam(defaultValue = "asc") String sortDir) {
+            @RequestParam(defaultValue = "asc") String sortDir,
+            @RequestParam(required = false) BigDecimal minBudget,
+            @RequestParam(required = false) BigDecimal maxBudget,
+            @RequestParam(required = false) String namePrefix,
+            WebRequest webRequest) {
 
-        log.info("GET /api/equipes - page: {}, size: {}, sortBy: {}, sortDir: {}",
-                page, size, sortBy, sortDir);
+        if (log.isDebugEnabled()) {
+            log.debug("GET /api/equipes - page: {}, size: {}, sortBy: {}, sortDir: {}, minBudget: {}, maxBudget: {}, namePrefix: {}",
+                    page, size, sortBy, sortDir, minBudget, maxBudget, namePrefix);
+        }
 
-        // Validation du champ de tri
-        if (!sortBy.equals("name") && !sortBy.equals("acronym") && !sortBy.equals("budget")) {
-            log.warn("Champ de tri invalide: {}. Utilisation de 'name' par défaut", sortBy);
-            sortBy = "name";
+        sortBy = resolveSortBy(sortBy);
+        Sort.Direction direction = resolveDirection(sortDir);
+        EquipeFilter filter = new EquipeFilter(minBudget, maxBudget, namePrefix);
+        EquipePageCache.PageKey key = new EquipePageCache.PageKey(page, size, sortBy, direction, filter);
+
+        // Version lue avant les données : l'ETag ne peut pas annoncer plus récent que le contenu
+        String etag = equipeDataVersion.etag(equipeDataVersion.current(),
+                page + "-" + size + "-" + sortBy + "-" + direction + "-" + filter.etagKey());
+        if (webRequest.checkNotModified(etag)) {
+            if (log.isDebugEnabled()) {
+                log.debug("Page {} inchangée (304)", page);
+            }
+            return null;
         }
 
-        // Création de l'objet Sort
-        Sort sort = sortDir.equalsIgnoreCase("desc")
-                ? Sort.by(sortBy).descending()
-                : Sort.by(sortBy).ascending();
+        // L'ID départage les égalités : ordre stable d'une page à l'autre, servi par l'index (tri, id)
+        Sort sort = Sort.by(direction, sortBy).and(Sort.by(direction, "id"));
 
         // Création du Pageable
         Pageable pageable = PageRequest.of(page, size, sort);
 
-        Page<Equipe> equipes = equipeService.getAllEquipes(pageable);
+        byte[] equipes = equipePageCache.get(key, () -> equipeService.getAllEquipes(filter, pageable));
 
-        log.info("Retour de {} équipes sur {} au total",
-                equipes.getNumberOfElements(),
-                equipes.getTotalElements());
+        if (log.isDebugEnabled()) {
+            log.debug("Retour de la page {} ({} octets)", page, equipes.length);
+        }
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .body(equipes);
+    }
+
+    /**
+     * Compteurs du cache des pages d'équipes (hits, misses, évictions),
+     * pour dimensionner equipes.page-cache.max-size et equipes.page-cache.ttl.
+     */
+    @GetMapping("/cache/stats")
+    public ResponseEntity<PageCacheStatsResponse> getPageCacheStats() {
+        return ResponseEntity.ok(equipePageCache.stats());
+    }
+
+    /**
+     * Récupère la liste des équipes par curseur (pagination keyset).
+     * Sélectionné dès que le paramètre cursor est présent.
+     *
+     * Le coût d'une page ne dépend pas de sa profondeur (pas d'OFFSET)
+     * et aucun total n'est calculé.
+     *
+     * @param cursor curseur renvoyé par la page précédente (vide pour la première page)
+     * @param size taille de la page (défaut: 10)
+     * @param sortBy champ de tri (défaut: name). Options: name, acronym, budget
+     * @param sortDir direction du tri (défaut: asc). Options: asc, desc
+     * @return page d'équipes avec le curseur de la page suivante
+     *
+     * Exemples d'utilisation:
+     * - GET /api/equipes?cursor=
+     * - GET /api/equipes?cursor=&sortBy=budget&sortDir=desc&size=20
+     * - GET /api/equipes?cursor=YnVkZ2V0fERFU0N8Mnw1MDAwMDAwMDA&sortBy=budget&sortDir=desc&size=20
+     */
+    @GetMapping(params = "cursor")
+    public ResponseEntity<CursorPage<EquipeView>> getEquipesByCursor(
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "name") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDir) {
+
+        if (log.isDebugEnabled()) {
+            log.debug("GET /api/equipes - cursor: {}, size: {}, sortBy: {}, sortDir: {}",
+                    cursor, size, sortBy, sortDir);
+        }
+
+        sortBy = resolveSortBy(sortBy);
+        Sort.Direction direction = resolveDirection(sortDir);
+
+        EquipeCursor equipeCursor = null;
+        if (!cursor.isBlank()) {
+            equipeCursor = EquipeCursor.decode(cursor);
+            // Le curseur n'est valable que pour le tri avec lequel il a été produit
+            if (!equipeCursor.sortBy().equals(sortBy) || equipeCursor.direction() != direction) {
+                throw new InvalidCursorException("Le curseur ne correspond pas au tri demandé");
+            }
+        }
+
+        CursorPage<EquipeView> equipes = equipeService.getEquipesByCursor(sortBy, direction, equipeCursor, size);
+
+        if (log.isDebugEnabled()) {
+            log.debug("Retour de {} équipes, page suivante: {}", equipes.getSize(), equipes.isHasNext());
+        }
 
         return ResponseEntity.ok(equipes);
     }
 
+    /**
+     * Récupère une équipe et ses joueurs par son acronyme (sensible à la casse).
+     *
+     * @param acronym acronyme de l'équipe
+     *
+     * Exemple: GET /api/equipes/by-acronym/OGCN
+     */
+    @GetMapping("/by-acronym/{acronym}")
+    public ResponseEntity<EquipeView> getEquipeByAcronym(@PathVariable String acronym) {
+        log.debug("GET /api/equipes/by-acronym/{}", acronym);
+        return ResponseEntity.ok(equipeService.getEquipeByAcronym(acronym));
+    }
+
+    /**
+     * Statistiques de la ligue, lues dans le résumé tenu à jour en mémoire.
+     *
+     * Exemple de réponse:
+     * {"equipes": 8, "joueurs": 24, "totalBudget": 1200000000,
+     *  "averageSquadSize": 3.0, "positions": {"Attaquant": 8, "Défenseur": 7, "Gardien": 1, "Milieu": 8}}
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<LeagueStatsResponse> getLeagueStats() {
+        log.debug("GET /api/equipes/stats");
+        return ResponseEntity.ok(equipeStatsService.getLeagueStats());
+    }
+
+    /**
+     * Statistiques d'une équipe : effectif, joueurs par poste et rang du budget.
+     *
+     * @param id ID de l'équipe
+     *
+     * Exemple de réponse:
+     * {"id": 1, "name": "OGC Nice", "acronym": "OGCN", "budget": 50000000,
+     *  "budgetRank": 7, "squadSize": 3, "positions": {"Attaquant": 1, "Gardien": 1, "Milieu": 1}}
+     */
+    @GetMapping("/{id}/stats")
+    public ResponseEntity<EquipeStatsResponse> getEquipeStats(@PathVariable Long id) {
+        log.debug("GET /api/equipes/{}/stats", id);
+        return ResponseEntity.ok(equipeStatsService.getEquipeStats(id));
+    }
+
+    /**
+     * Classement des équipes par budget décroissant, lu en mémoire.
+     *
+     * @param n nombre d'équipes (défaut: 10, max: 100)
+     *
+     * Exemple de réponse:
+     * [{"rank": 1, "id": 2, "name": "Paris Saint-Germain", "acronym": "PSG", "budget": 500000000}, ...]
+     */
+    @GetMapping("/leaderboard")
+    public ResponseEntity<List<LeaderboardEntry>> getLeaderboard(@RequestParam(defaultValue = "10") int n) {
+        if (log.isDebugEnabled()) {
+            log.debug("GET /api/equipes/leaderboard - n: {}", n);
+        }
+        return ResponseEntity.ok(equipeStatsService.getLeaderboard(n));
+    }
+
+    /**
+     * Rang d'une équipe au classement des budgets (à budget égal, le plus petit ID passe devant).
+     *
+     * @param id ID de l'équipe
+     */
+    @GetMapping("/leaderboard/{id}")
+    public ResponseEntity<LeaderboardEntry> getLeaderboardRank(@PathVariable Long id) {
+        log.debug("GET /api/equipes/leaderboard/{}", id);
+        return ResponseEntity.ok(equipeStatsService.getLeaderboardRank(id));
+    }
+
+    /**
+     * Historique des transferts d'une équipe (arrivées et départs),
+     * du plus récent au plus ancien.
+     *
+     * @param id ID de l'équipe
+     * @param cursor nextCursor de la page précédente (absent pour la première page)
+     * @param size taille de la page (défaut: 20, max: 100)
+     * @return page de transferts avec le curseur de la page suivante
+     */
+    @GetMapping("/{id}/transfers")
+    public ResponseEntity<CursorPage<TransferHistory>> getEquipeTransfers(
+            @PathVariable Long id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        if (log.isDebugEnabled()) {
+            log.debug("GET /api/equipes/{}/transfers - cursor: {}, size: {}", id, cursor, size);
+        }
+
+        return ResponseEntity.ok(transferHistoryService.getEquipeTransfers(id, cursor, size));
+    }
+
+    /**
+     * Exporte toutes les équipes avec leurs joueurs, une équipe JSON par ligne (NDJSON).
+     *
+     * La réponse est écrite en flux pendant la lecture de la base :
+     * la mémoire utilisée reste constante quel que soit le volume.
+     *
+     * Exemple d'utilisation:
+     * - curl http://localhost:8080/api/equipes/export > equipes.ndjson
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportEquipes() {
+        log.debug("GET /api/equipes/export");
+
+        StreamingResponseBody body = equipeExportService::exportNdjson;
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
     /**
      * Crée une nouvelle équipe avec ou sans joueurs.
      *
@@ -98,14 +337,48 @@ public class EquipeController {
      * }
      */
     @PostMapping
-    public ResponseEntity<Equipe> createEquipe(@Valid @RequestBody CreateEquipeRequest request) {
-        log.info("POST /api/equipes - Création de l'équipe: {}", request.getAcronym());
+    public ResponseEntity<EquipeView> createEquipe(@Valid @RequestBody CreateEquipeRequest request) {
+        log.debug("POST /api/equipes - Création de l'équipe: {}", request.getAcronym());
 
         Equipe createdEquipe = equipeService.createEquipe(request);
 
-        log.info("Équipe créée avec succès - ID: {}", createdEquipe.getId());
+        log.debug("Équipe créée avec succès - ID: {}", createdEquipe.getId());
 
-        return ResponseEntity.status(HttpStatus.CREATED).body(createdEquipe);
+        return ResponseEntity.status(HttpStatus.CREATED).body(EquipeView.from(createdEquipe));
+    }
+
+    /**
+     * Crée un lot d'équipes en une seule requête (ex: une ligue complète).
+     *
+     * Les acronymes déjà utilisés sont signalés en conflit équipe par équipe,
+     * les autres équipes sont créées.
+     *
+     * @param request liste des équipes à créer
+     * @return résultat par équipe (CREATED ou CONFLICT) avec l'ID créé
+     *
+     * Exemple de requête JSON:
+     * {
+     *   "equipes": [
+     *     {"name": "OGC Nice", "acronym": "OGCN", "budget": 50000000},
+     *     {"name": "AS Monaco", "acronym": "ASM", "budget": 100000000}
+     *   ]
+     * }
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkCreateEquipeResponse> createEquipes(
+            @Valid @RequestBody BulkCreateEquipeRequest request) {
+
+        if (log.isDebugEnabled()) {
+            log.debug("POST /api/equipes/bulk - Création de {} équipes", request.getEquipes().size());
+        }
+
+        BulkCreateEquipeResponse response = equipeService.createEquipes(request.getEquipes());
+
+        log.info("Création en masse: {} créées, {} en conflit",
+                response.getCreated(),
+                response.getConflicts());
+
+        return ResponseEntity.ok(response);
     }
 
     /**
@@ -134,14 +407,113 @@ public class EquipeController {
     public ResponseEntity<TransferJoueurResponse> transferJoueur(
             @Valid @RequestBody TransferJoueurRequest request) {
 
-        log.info("POST /api/equipes/transfer - Transfert du joueur ID: {} vers équipe ID: {}",
+        log.debug("POST /api/equipes/transfer - Transfert du joueur ID: {} vers équipe ID: {}",
                 request.getJoueurId(),
                 request.getNouvelleEquipeId());
 
         TransferJoueurResponse response = equipeService.transferJoueur(request);
 
-        log.info("Transfert réussi: {}", response.getMessage());
+        log.debug("Transfert réussi: {}", response.getMessage());
 
         return ResponseEntity.ok(response);
     }
-}
\ No newline at end of file
+
+    /**
+     * Met un transfert en file et rend la main sans attendre son application.
+     *
+     * La file est vidée par lots par un écrivain unique ; plusieurs transferts
+     * du même joueur dans un lot sont fusionnés (seule la dernière destination
+     * est appliquée). Si la file est pleine, la réponse est 429.
+     *
+     * @param request données du transfert (joueurId, nouvelleEquipeId)
+     * @return état PENDING avec statut 202 (ACCEPTED) et l'URL de suivi en Location
+     *
+     * Exemple de réponse:
+     * {
+     *   "id": "3f6c1f0e-...",
+     *   "status": "PENDING",
+     *   "joueurId": 1,
+     *   "nouvelleEquipeId": 2,
+     *   "acceptedAt": "2025-01-31T23:59:58"
+     * }
+     */
+    @PostMapping(value = "/transfer", params = "async=true")
+    public ResponseEntity<TransferStatusResponse> submitTransfer(
+            @Valid @RequestBody TransferJoueurRequest request) {
+
+        log.debug("POST /api/equipes/transfer?async=true - Transfert du joueur ID: {} vers équipe ID: {}",
+                request.getJoueurId(),
+                request.getNouvelleEquipeId());
+
+        TransferStatusResponse status = transferQueueService.submit(request);
+
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/equipes/transfer/" + status.getId()))
+                .body(status);
+    }
+
+    /**
+     * État d'un transfert mis en file : PENDING, COMPLETED (avec le message
+     * de confirmation), FAILED ou SUPERSEDED (remplacé par un transfert plus récent).
+     *
+     * @param id ID renvoyé par POST /api/equipes/transfer?async=true
+     * @return état du transfert, 404 si l'ID est inconnu ou expiré
+     */
+    @GetMapping("/transfer/{id}")
+    public ResponseEntity<TransferStatusResponse> getTransferStatus(@PathVariable String id) {
+        return ResponseEntity.ok(transferQueueService.getStatus(id));
+    }
+
+    /**
+     * Applique un lot de transferts dans une seule transaction.
+     *
+     * @param request transferts à appliquer et mode de gestion des échecs
+     * @return une réponse par transfert, dans l'ordre de la requête
+     *
+     * Exemple de requête JSON:
+     * {
+     *   "mode": "PER_ITEM",
+     *   "transfers": [
+     *     {"joueurId": 1, "nouvelleEquipeId": 2},
+     *     {"joueurId": 9, "nouvelleEquipeId": 1}
+     *   ]
+     * }
+     *
+     * En mode ALL_OR_NOTHING (défaut), un joueur ou une équipe inconnu annule
+     * tout le lot (404). En mode PER_ITEM, le transfert concerné est renvoyé
+     * avec "confirmed": false et les autres sont appliqués.
+     */
+    @PostMapping("/transfers/batch")
+    public ResponseEntity<List<TransferJoueurResponse>> transferJoueurs(
+            @Valid @RequestBody BatchTransferRequest request) {
+
+        if (log.isDebugEnabled()) {
+            log.debug("POST /api/equipes/transfers/batch - {} transferts (mode {})",
+                    request.getTransfers().size(),
+                    request.getMode());
+        }
+
+        List<TransferJoueurResponse> responses =
+                equipeService.transferJoueurs(request.getTransfers(), request.getMode());
+
+        return ResponseEntity.ok(responses);
+    }
+
+    /**
+     * Validation du champ de tri : seuls name, acronym et budget sont autorisés.
+     */
+    private String resolveSortBy(String sortBy) {
+        if (!sortBy.equals("name") && !sortBy.equals("acronym") && !sortBy.equals("budget")) {
+            log.warn("Champ de tri invalide: {}. Utilisation de 'name' par défaut", sortBy);
+            return "name";
+        }
+        return sortBy;
+    }
+
+    /**
+     * Direction du tri : desc si demandé explicitement, asc sinon.
+     */
+    private Sort.Direction resolveDirection(String sortDir) {
+        return sortDir.equalsIgnoreCase("desc") ? Sort.Direction.DESC : Sort.Direction.ASC;
+    }
+}
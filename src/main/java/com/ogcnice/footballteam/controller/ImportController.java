@@ -0,0 +1,54 @@
+package com.ogcnice.footballteam.controller;
+
+import com.ogcnice.footballteam.dto.ImportReport;
+import com.ogcnice.footballteam.service.EquipeImportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Contrôleur REST pour l'import en masse d'équipes et de joueurs.
+ *
+ * Endpoints disponibles:
+ * - POST /api/import (Content-Type: text/csv) : Import d'un fichier CSV
+ * - POST /api/import (Content-Type: application/x-ndjson) : Import d'un fichier NDJSON
+ */
+@RestController
+@RequestMapping("/api/import")
+@RequiredArgsConstructor
+@Slf4j
+public class ImportController {
+
+    private final EquipeImportService equipeImportService;
+
+    /**
+     * Importe un fichier CSV envoyé comme corps de la requête.
+     * Le corps est lu en flux, sans être chargé en mémoire.
+     *
+     * Exemple d'utilisation:
+     * - curl -X POST http://localhost:8080/api/import -H "Content-Type: text/csv" --data-binary @ligue.csv
+     */
+    @PostMapping(consumes = "text/csv")
+    public ResponseEntity<ImportReport> importCsv(InputStream body) throws IOException {
+        log.info("POST /api/import - Import CSV");
+        return ResponseEntity.ok(equipeImportService.importer(body, EquipeImportService.Format.CSV));
+    }
+
+    /**
+     * Importe un fichier NDJSON (une équipe par ligne) envoyé comme corps de la requête.
+     *
+     * Exemple d'utilisation:
+     * - curl -X POST http://localhost:8080/api/import -H "Content-Type: application/x-ndjson" --data-binary @equipes.ndjson
+     */
+    @PostMapping(consumes = "application/x-ndjson")
+    public ResponseEntity<ImportReport> importNdjson(InputStream body) throws IOException {
+        log.info("POST /api/import - Import NDJSON");
+        return ResponseEntity.ok(equipeImportService.importer(body, EquipeImportService.Format.NDJSON));
+    }
+}
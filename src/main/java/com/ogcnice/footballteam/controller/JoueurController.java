@@ -0,0 +1,91 @@
+package com.ogcnice.footballteam.controller;
+
+import com.ogcnice.footballteam.dto.CursorPage;
+import com.ogcnice.footballteam.dto.JoueurSearchResult;
+import com.ogcnice.footballteam.model.TransferHistory;
+import com.ogcnice.footballteam.service.JoueurSearchService;
+import com.ogcnice.footballteam.service.TransferHistoryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Contrôleur REST pour les joueurs.
+ *
+ * Endpoints disponibles:
+ * - GET /api/joueurs/search : Recherche de joueurs par nom (casse et accents ignorés)
+ * - GET /api/joueurs/{id}/transfers : Historique des transferts d'un joueur
+ */
+@RestController
+@RequestMapping("/api/joueurs")
+@RequiredArgsConstructor
+@Slf4j
+public class JoueurController {
+
+    private final TransferHistoryService transferHistoryService;
+    private final JoueurSearchService joueurSearchService;
+
+    /**
+     * Recherche de joueurs par préfixes de mots du nom.
+     *
+     * @param q termes recherchés, ex: "gaetan lab" trouve "Gaëtan Laborde"
+     * @param position position exacte (optionnelle), ex: "Attaquant"
+     * @param limit nombre maximal de résultats (défaut: 10, max: 50)
+     * @return joueurs trouvés avec leur équipe
+     *
+     * Exemple de réponse:
+     * [
+     *   {"id": 12, "name": "Gaëtan Laborde", "position": "Attaquant",
+     *    "equipeId": 1, "equipeName": "OGC Nice"}
+     * ]
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<JoueurSearchResult>> searchJoueurs(
+            @RequestParam(defaultValue = "") String q,
+            @RequestParam(required = false) String position,
+            @RequestParam(defaultValue = "10") int limit) {
+
+        if (log.isDebugEnabled()) {
+            log.debug("GET /api/joueurs/search - q: {}, position: {}, limit: {}", q, position, limit);
+        }
+
+        return ResponseEntity.ok(joueurSearchService.searchJoueurs(q, position, limit));
+    }
+
+    /**
+     * Historique des transferts d'un joueur, du plus récent au plus ancien.
+     *
+     * @param id ID du joueur
+     * @param cursor nextCursor de la page précédente (absent pour la première page)
+     * @param size taille de la page (défaut: 20, max: 100)
+     * @return page de transferts avec le curseur de la page suivante
+     *
+     * Exemple de réponse:
+     * {
+     *   "content": [
+     *     {"id": 51, "joueurId": 1, "joueurName": "Kasper Schmeichel",
+     *      "ancienneEquipeId": 1, "ancienneEquipeName": "OGC Nice",
+     *      "nouvelleEquipeId": 2, "nouvelleEquipeName": "Paris Saint-Germain",
+     *      "transferredAt": "2025-01-31T23:59:58"}
+     *   ],
+     *   "size": 1,
+     *   "nextCursor": null,
+     *   "hasNext": false
+     * }
+     */
+    @GetMapping("/{id}/transfers")
+    public ResponseEntity<CursorPage<TransferHistory>> getJoueurTransfers(
+            @PathVariable Long id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        if (log.isDebugEnabled()) {
+            log.debug("GET /api/joueurs/{}/transfers - cursor: {}, size: {}", id, cursor, size);
+        }
+
+        return ResponseEntity.ok(transferHistoryService.getJoueurTransfers(id, cursor, size));
+    }
+}
@@ -0,0 +1,43 @@
+package com.ogcnice.footballteam.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * DTO pour un lot de transferts appliqués dans une seule transaction.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchTransferRequest {
+
+    @NotEmpty(message = "La liste des transferts est obligatoire")
+    @Size(max = 10000, message = "Au maximum 10000 transferts par requête")
+    @Valid
+    private List<TransferJoueurRequest> transfers;
+
+    /**
+     * Comportement en cas d'échec d'un transfert (défaut: ALL_OR_NOTHING).
+     */
+    @NotNull(message = "Le mode est obligatoire")
+    @Builder.Default
+    private Mode mode = Mode.ALL_OR_NOTHING;
+
+    public enum Mode {
+        /**
+         * Un seul transfert impossible annule tout le lot.
+         */
+        ALL_OR_NOTHING,
+        /**
+         * Les transferts impossibles sont signalés, les autres sont appliqués.
+         */
+        PER_ITEM
+    }
+}
@@ -0,0 +1,24 @@
+package com.ogcnice.footballteam.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * DTO pour la création en masse d'équipes (ex: une ligue complète).
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkCreateEquipeRequest {
+
+    @NotEmpty(message = "La liste des équipes est obligatoire")
+    @Size(max = 10000, message = "Au maximum 10000 équipes par requête")
+    @Valid
+    private List<CreateEquipeRequest> equipes;
+}
@@ -0,0 +1,41 @@
+package com.ogcnice.footballteam.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * DTO pour la réponse d'une création en masse.
+ * Chaque équipe demandée a un résultat (créée ou en conflit),
+ * dans l'ordre de la requête.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkCreateEquipeResponse {
+
+    private int created;
+    private int conflicts;
+    private List<Result> results;
+
+    public enum Status {
+        CREATED,
+        CONFLICT
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Result {
+
+        private int index;
+        private String acronym;
+        private Status status;
+        private Long id;
+        private String message;
+    }
+}
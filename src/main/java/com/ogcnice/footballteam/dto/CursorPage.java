@@ -0,0 +1,23 @@
+package com.ogcnice.footballteam.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Page renvoyée par la pagination par curseur (keyset).
+ * Contrairement à Page, aucun total n'est calculé : nextCursor
+ * permet de demander la page suivante.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CursorPage<T> {
+
+    private List<T> content;
+    private int size;
+    private String nextCursor;
+    private boolean hasNext;
+}
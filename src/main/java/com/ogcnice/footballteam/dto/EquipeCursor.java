@@ -0,0 +1,68 @@
+package com.ogcnice.footballteam.dto;
+
+import com.ogcnice.footballteam.exception.InvalidCursorException;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Curseur opaque de la pagination par clé (keyset).
+ * Encode le tri utilisé ainsi que la valeur du champ de tri et l'ID
+ * de la dernière équipe renvoyée.
+ *
+ * Format (avant encodage Base64 URL): sortBy|direction|id|valeur
+ */
+public record EquipeCursor(String sortBy, Sort.Direction direction, Long id, Object value) {
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * Construit le curseur pointant après l'équipe donnée.
+     */
+    public static EquipeCursor after(EquipeView equipe, String sortBy, Sort.Direction direction) {
+        Object value = switch (sortBy) {
+            case "acronym" -> equipe.getAcronym();
+            case "budget" -> equipe.getBudget();
+            default -> equipe.getName();
+        };
+        return new EquipeCursor(sortBy, direction, equipe.getId(), value);
+    }
+
+    /**
+     * Décode un curseur reçu du client.
+     *
+     * @throws InvalidCursorException si le curseur est mal formé
+     */
+    public static EquipeCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            // La valeur est en dernier : elle peut elle-même contenir le séparateur
+            String[] parts = decoded.split("\\|", 4);
+            if (parts.length != 4) {
+                throw new InvalidCursorException("Curseur invalide: " + cursor);
+            }
+
+            String sortBy = parts[0];
+            Object value = switch (sortBy) {
+                case "name", "acronym" -> parts[3];
+                case "budget" -> new BigDecimal(parts[3]);
+                default -> throw new InvalidCursorException("Curseur invalide: " + cursor);
+            };
+            return new EquipeCursor(sortBy, Sort.Direction.valueOf(parts[1]), Long.valueOf(parts[2]), value);
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidCursorException("Curseur invalide: " + cursor);
+        }
+    }
+
+    /**
+     * Encode le curseur sous forme opaque pour le client.
+     */
+    public String encode() {
+        String rawValue = value instanceof BigDecimal budget ? budget.toPlainString() : String.valueOf(value);
+        String raw = sortBy + SEPARATOR + direction.name() + SEPARATOR + id + SEPARATOR + rawValue;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,38 @@
+package com.ogcnice.footballteam.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Filtres de GET /api/equipes. Un champ null ne filtre pas.
+ *
+ * Les budgets sont normalisés (zéros de fin retirés) et un préfixe vide est ignoré :
+ * deux requêtes équivalentes partagent la même entrée du cache des pages.
+ *
+ * @param minBudget budget minimal (inclus)
+ * @param maxBudget budget maximal (inclus)
+ * @param namePrefix début du nom, sensible à la casse (ex: "Olympique")
+ */
+public record EquipeFilter(BigDecimal minBudget, BigDecimal maxBudget, String namePrefix) {
+
+    public static final EquipeFilter NONE = new EquipeFilter(null, null, null);
+
+    public EquipeFilter {
+        minBudget = minBudget != null ? minBudget.stripTrailingZeros() : null;
+        maxBudget = maxBudget != null ? maxBudget.stripTrailingZeros() : null;
+        namePrefix = namePrefix != null && !namePrefix.isEmpty() ? namePrefix : null;
+    }
+
+    /**
+     * Vrai si aucun filtre n'est demandé.
+     */
+    public boolean isEmpty() {
+        return minBudget == null && maxBudget == null && namePrefix == null;
+    }
+
+    /**
+     * Clé ASCII des filtres, pour l'ETag (le préfixe peut contenir des accents).
+     */
+    public String etagKey() {
+        return isEmpty() ? "all" : Integer.toHexString(hashCode());
+    }
+}
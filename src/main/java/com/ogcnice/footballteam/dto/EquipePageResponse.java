@@ -0,0 +1,60 @@
+package com.ogcnice.footballteam.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import lombok.*;
+import org.springframework.data.domain.Page;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Page d'équipes renvoyée par GET /api/equipes.
+ *
+ * Enveloppe stable, indépendante de la sérialisation de Page par Spring Data
+ * (pas de pageable, sort, ...) :
+ * {"content":[...],"totalElements":15,"totalPages":2,"size":10,"number":0}
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonSerialize(using = EquipePageResponse.Serializer.class)
+public class EquipePageResponse {
+
+    private List<EquipeView> content;
+    private long totalElements;
+    private int totalPages;
+    private int size;
+    private int number;
+
+    public static EquipePageResponse from(Page<EquipeView> page) {
+        return new EquipePageResponse(page.getContent(), page.getTotalElements(), page.getTotalPages(),
+                page.getSize(), page.getNumber());
+    }
+
+    static class Serializer extends StdSerializer<EquipePageResponse> {
+
+        Serializer() {
+            super(EquipePageResponse.class);
+        }
+
+        @Override
+        public void serialize(EquipePageResponse page, JsonGenerator generator, SerializerProvider provider)
+                throws IOException {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("content");
+            for (EquipeView equipe : page.content) {
+                equipe.writeTo(generator);
+            }
+            generator.writeEndArray();
+            generator.writeNumberField("totalElements", page.totalElements);
+            generator.writeNumberField("totalPages", page.totalPages);
+            generator.writeNumberField("size", page.size);
+            generator.writeNumberField("number", page.number);
+            generator.writeEndObject();
+        }
+    }
+}
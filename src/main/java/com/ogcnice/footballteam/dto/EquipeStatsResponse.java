@@ -0,0 +1,36 @@
+package com.ogcnice.footballteam.dto;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * Statistiques d'une équipe (GET /api/equipes/{id}/stats).
+ *
+ * Exemple: {"id":1,"name":"OGC Nice","acronym":"OGCN","budget":50000000,
+ *           "budgetRank":5,"squadSize":3,"positions":{"Gardien":1,"Défenseur":2}}
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EquipeStatsResponse {
+
+    private Long id;
+    private String name;
+    private String acronym;
+    private BigDecimal budget;
+
+    /**
+     * Rang du budget dans la ligue (1 = plus gros budget, ex aequo au même rang).
+     */
+    private int budgetRank;
+    private int squadSize;
+
+    /**
+     * Nombre de joueurs par poste.
+     */
+    private Map<String, Integer> positions;
+}
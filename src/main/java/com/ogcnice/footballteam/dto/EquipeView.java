@@ -0,0 +1,89 @@
+package com.ogcnice.footballteam.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.ogcnice.footballteam.model.Equipe;
+import com.ogcnice.footballteam.model.Joueur;
+import lombok.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Équipe telle que renvoyée par l'API, avec ses joueurs.
+ *
+ * Exemple: {"id":1,"name":"OGC Nice","acronym":"OGCN","budget":50000000.00,
+ *           "joueurs":[{"id":1,"name":"Kasper Schmeichel","position":"Gardien"}]}
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonSerialize(using = EquipeView.Serializer.class)
+public class EquipeView {
+
+    private Long id;
+    private String name;
+    private String acronym;
+    private BigDecimal budget;
+    private List<JoueurView> joueurs;
+
+    /**
+     * Équipe sans joueur (projection JPQL), complétée ensuite avec ses joueurs.
+     */
+    public EquipeView(Long id, String name, String acronym, BigDecimal budget) {
+        this(id, name, acronym, budget, new ArrayList<>());
+    }
+
+    /**
+     * Copie l'équipe ; ses joueurs doivent être initialisés.
+     */
+    public static EquipeView from(Equipe equipe) {
+        List<JoueurView> joueurs = new ArrayList<>(equipe.getJoueurs().size());
+        for (Joueur joueur : equipe.getJoueurs()) {
+            joueurs.add(JoueurView.from(joueur));
+        }
+        return new EquipeView(equipe.getId(), equipe.getName(), equipe.getAcronym(),
+                equipe.getBudget(), joueurs);
+    }
+
+    /**
+     * Écrit l'équipe et ses joueurs champ par champ, sans introspection.
+     */
+    void writeTo(JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        if (id != null) {
+            generator.writeNumberField("id", id);
+        } else {
+            generator.writeNullField("id");
+        }
+        generator.writeStringField("name", name);
+        generator.writeStringField("acronym", acronym);
+        generator.writeNumberField("budget", budget);
+        generator.writeArrayFieldStart("joueurs");
+        if (joueurs != null) {
+            for (JoueurView joueur : joueurs) {
+                joueur.writeTo(generator);
+            }
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    static class Serializer extends StdSerializer<EquipeView> {
+
+        Serializer() {
+            super(EquipeView.class);
+        }
+
+        @Override
+        public void serialize(EquipeView equipe, JsonGenerator generator, SerializerProvider provider)
+                throws IOException {
+            equipe.writeTo(generator);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.ogcnice.footballteam.dto;
+
+import lombok.*;
+
+/**
+ * DTO de réponse d'un import de fichier d'équipes.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImportReport {
+
+    /**
+     * Nombre d'équipes créées.
+     */
+    private long equipes;
+
+    /**
+     * Nombre de joueurs créés avec ces équipes.
+     */
+    private long joueurs;
+
+    /**
+     * Équipes ignorées car leur acronyme existait déjà.
+     */
+    private long conflicts;
+
+    /**
+     * Durée totale de l'import en millisecondes.
+     */
+    private long durationMs;
+
+    /**
+     * Débit : lignes (équipes + joueurs) lues par seconde.
+     */
+    private long rowsPerSecond;
+}
@@ -0,0 +1,27 @@
+package com.ogcnice.footballteam.dto;
+
+import lombok.*;
+
+/**
+ * Joueur trouvé par GET /api/joueurs/search, avec son équipe actuelle.
+ *
+ * Exemple: {"id":7,"name":"Gaëtan Laborde","position":"Attaquant",
+ *           "equipeId":1,"equipeName":"OGC Nice"}
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JoueurSearchResult {
+
+    private Long id;
+    private String name;
+    private String position;
+
+    /**
+     * Équipe actuelle, null pour un joueur libre.
+     */
+    private Long equipeId;
+    private String equipeName;
+}
@@ -0,0 +1,59 @@
+package com.ogcnice.footballteam.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.ogcnice.footballteam.model.Joueur;
+import lombok.*;
+
+import java.io.IOException;
+
+/**
+ * Joueur tel que renvoyé par l'API, sans la référence vers son équipe.
+ *
+ * Exemple: {"id":1,"name":"Kasper Schmeichel","position":"Gardien"}
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonSerialize(using = JoueurView.Serializer.class)
+public class JoueurView {
+
+    private Long id;
+    private String name;
+    private String position;
+
+    public static JoueurView from(Joueur joueur) {
+        return new JoueurView(joueur.getId(), joueur.getName(), joueur.getPosition());
+    }
+
+    /**
+     * Écrit le joueur champ par champ, sans introspection.
+     */
+    void writeTo(JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        if (id != null) {
+            generator.writeNumberField("id", id);
+        } else {
+            generator.writeNullField("id");
+        }
+        generator.writeStringField("name", name);
+        generator.writeStringField("position", position);
+        generator.writeEndObject();
+    }
+
+    static class Serializer extends StdSerializer<JoueurView> {
+
+        Serializer() {
+            super(JoueurView.class);
+        }
+
+        @Override
+        public void serialize(JoueurView joueur, JsonGenerator generator, SerializerProvider provider)
+                throws IOException {
+            joueur.writeTo(generator);
+        }
+    }
+}
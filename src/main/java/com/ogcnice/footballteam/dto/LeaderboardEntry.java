@@ -0,0 +1,27 @@
+package com.ogcnice.footballteam.dto;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+
+/**
+ * Équipe et sa position dans le classement des budgets (GET /api/equipes/leaderboard).
+ *
+ * Exemple: {"rank":1,"id":2,"name":"Paris Saint-Germain","acronym":"PSG","budget":500000000}
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LeaderboardEntry {
+
+    /**
+     * Position (1 = plus gros budget) ; à budget égal, l'équipe à l'ID le plus petit passe devant.
+     */
+    private int rank;
+    private Long id;
+    private String name;
+    private String acronym;
+    private BigDecimal budget;
+}
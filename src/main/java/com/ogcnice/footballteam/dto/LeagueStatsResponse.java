@@ -0,0 +1,30 @@
+package com.ogcnice.footballteam.dto;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * Statistiques de toute la ligue (GET /api/equipes/stats).
+ *
+ * Exemple: {"equipes":8,"joueurs":24,"totalBudget":1200000000,
+ *           "averageSquadSize":3.0,"positions":{"Attaquant":8,"Milieu":9}}
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LeagueStatsResponse {
+
+    private int equipes;
+    private long joueurs;
+    private BigDecimal totalBudget;
+    private double averageSquadSize;
+
+    /**
+     * Nombre de joueurs par poste, toutes équipes confondues.
+     */
+    private Map<String, Long> positions;
+}
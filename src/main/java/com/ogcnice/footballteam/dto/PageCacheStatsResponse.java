@@ -0,0 +1,20 @@
+package com.ogcnice.footballteam.dto;
+
+import lombok.*;
+
+/**
+ * DTO pour les compteurs du cache des pages d'équipes.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PageCacheStatsResponse {
+
+    private long hits;
+    private long misses;
+    private double hitRate;
+    private long evictions;
+    private long entries;
+}
@@ -0,0 +1,61 @@
+package com.ogcnice.footballteam.dto;
+
+import com.ogcnice.footballteam.exception.InvalidCursorException;
+import com.ogcnice.footballteam.model.TransferHistory;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Curseur opaque de l'historique des transferts.
+ * Encode la date et l'ID de la dernière entrée renvoyée : la page suivante
+ * commence juste avant elle dans l'ordre (transferredAt, id) décroissant.
+ *
+ * Format (avant encodage Base64 URL): transferredAt|id
+ */
+public record TransferCursor(LocalDateTime transferredAt, Long id) {
+
+    /**
+     * Position de la première page : avant toute entrée.
+     */
+    public static final TransferCursor FIRST =
+            new TransferCursor(LocalDateTime.of(9999, 12, 31, 23, 59), Long.MAX_VALUE);
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * Construit le curseur pointant après l'entrée donnée.
+     */
+    public static TransferCursor after(TransferHistory entry) {
+        return new TransferCursor(entry.getTransferredAt(), entry.getId());
+    }
+
+    /**
+     * Décode un curseur reçu du client.
+     *
+     * @throws InvalidCursorException si le curseur est mal formé
+     */
+    public static TransferCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\|");
+            if (parts.length != 2) {
+                throw new InvalidCursorException("Curseur invalide: " + cursor);
+            }
+            return new TransferCursor(LocalDateTime.parse(parts[0]), Long.valueOf(parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new InvalidCursorException("Curseur invalide: " + cursor);
+        }
+    }
+
+    /**
+     * Encode le curseur sous forme opaque pour le client.
+     */
+    public String encode() {
+        String raw = transferredAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
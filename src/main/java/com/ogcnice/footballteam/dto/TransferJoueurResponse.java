@@ -46,4 +46,14 @@ public class TransferJoueurResponse {
                 .confirmed(true)
                 .build();
     }
-}
\ No newline at end of file
+
+    /**
+     * Réponse d'un transfert non appliqué (lot de transferts en mode PER_ITEM).
+     */
+    public static TransferJoueurResponse rejected(String message) {
+        return TransferJoueurResponse.builder()
+                .message(message)
+                .confirmed(false)
+                .build();
+    }
+}
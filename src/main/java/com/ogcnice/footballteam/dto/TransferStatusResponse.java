@@ -0,0 +1,52 @@
+package com.ogcnice.footballteam.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO pour l'état d'un transfert asynchrone (POST /api/equipes/transfer?async=true).
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class TransferStatusResponse {
+
+    private String id;
+    private Status status;
+    private Long joueurId;
+    private Long nouvelleEquipeId;
+    private LocalDateTime acceptedAt;
+    private LocalDateTime completedAt;
+
+    /**
+     * ID du transfert plus récent du même joueur qui a remplacé celui-ci (statut SUPERSEDED).
+     */
+    private String supersededBy;
+
+    /**
+     * Résultat du transfert (statuts COMPLETED et FAILED).
+     */
+    private TransferJoueurResponse result;
+
+    public enum Status {
+        /**
+         * En file, pas encore appliqué.
+         */
+        PENDING,
+        /**
+         * Appliqué.
+         */
+        COMPLETED,
+        /**
+         * Rejeté (joueur ou équipe inconnu, conflit persistant).
+         */
+        FAILED,
+        /**
+         * Remplacé par un transfert plus récent du même joueur, appliqué dans le même lot.
+         */
+        SUPERSEDED
+    }
+}
@@ -0,0 +1,12 @@
+package com.ogcnice.footballteam.exception;
+
+/**
+ * Exception levée lorsqu'un curseur de pagination est invalide
+ * ou ne correspond pas au tri demandé.
+ */
+public class InvalidCursorException extends RuntimeException {
+
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,12 @@
+package com.ogcnice.footballteam.exception;
+
+/**
+ * Exception levée lorsqu'un fichier d'import est mal formé
+ * ou contient une équipe invalide.
+ */
+public class InvalidImportException extends RuntimeException {
+
+    public InvalidImportException(String message) {
+        super(message);
+    }
+}
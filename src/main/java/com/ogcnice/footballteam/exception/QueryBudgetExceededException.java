@@ -0,0 +1,12 @@
+package com.ogcnice.footballteam.exception;
+
+/**
+ * Exception levée, en mode fail-fast, lorsqu'une requête HTTP exécute plus
+ * de requêtes SQL que le budget de son endpoint.
+ */
+public class QueryBudgetExceededException extends RuntimeException {
+
+    public QueryBudgetExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,12 @@
+package com.ogcnice.footballteam.exception;
+
+/**
+ * Exception levée lorsqu'un transfert reste en conflit avec des transferts
+ * concurrents du même joueur après toutes les tentatives autorisées.
+ */
+public class TransferConflictException extends RuntimeException {
+
+    public TransferConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,12 @@
+package com.ogcnice.footballteam.exception;
+
+/**
+ * Exception levée lorsque la file des transferts asynchrones est pleine :
+ * le client doit réessayer plus tard.
+ */
+public class TransferQueueFullException extends RuntimeException {
+
+    public TransferQueueFullException(String message) {
+        super(message);
+    }
+}
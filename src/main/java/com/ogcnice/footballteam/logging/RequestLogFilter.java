@@ -0,0 +1,84 @@
+package com.ogcnice.footballteam.logging;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Écrit une ligne INFO par requête HTTP : méthode, URI, statut et durée,
+ * en paires clé/valeur (champs JSON avec le profil prod).
+ *
+ * Les requêtes réussies sont échantillonnées par endpoint
+ * (equipes.request-log.sample-rates) ; les erreurs (statut >= 400) et les requêtes
+ * plus lentes que equipes.request-log.slow-threshold sont toujours journalisées.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@EnableConfigurationProperties(RequestLogProperties.class)
+@RequiredArgsConstructor
+@Slf4j
+public class RequestLogFilter extends OncePerRequestFilter {
+
+    private final RequestLogProperties properties;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if (!properties.enabled() || !log.isInfoEnabled()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long debut = System.nanoTime();
+        boolean echec = true;
+        try {
+            filterChain.doFilter(request, response);
+            echec = false;
+        } finally {
+            long durationMs = (System.nanoTime() - debut) / 1_000_000;
+            int status = echec ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : response.getStatus();
+            String uri = uri(request);
+            if (doitJournaliser(request.getMethod(), uri, status, durationMs)) {
+                log.atInfo()
+                        .addKeyValue("method", request.getMethod())
+                        .addKeyValue("uri", uri)
+                        .addKeyValue("path", request.getRequestURI())
+                        .addKeyValue("status", status)
+                        .addKeyValue("durationMs", durationMs)
+                        .log("{} {} {} en {} ms", request.getMethod(), request.getRequestURI(), status, durationMs);
+            }
+        }
+    }
+
+    /**
+     * Erreurs et requêtes lentes toujours journalisées, les autres selon le taux de l'endpoint.
+     */
+    boolean doitJournaliser(String method, String uri, int status, long durationMs) {
+        if (status >= 400 || durationMs >= properties.slowThreshold().toMillis()) {
+            return true;
+        }
+        double rate = properties.sampleRate(method, uri);
+        return rate >= 1.0 || (rate > 0.0 && ThreadLocalRandom.current().nextDouble() < rate);
+    }
+
+    /**
+     * Motif de l'URI (ex: /api/equipes/{id}/transfers) : le taux ne dépend pas des paramètres.
+     */
+    private String uri(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+}
@@ -0,0 +1,39 @@
+package com.ogcnice.footballteam.logging;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Configuration du log des requêtes HTTP (préfixe equipes.request-log).
+ *
+ * Exemple:
+ * equipes.request-log.sample-rate=0.1
+ * equipes.request-log.sample-rates.GET.[/api/equipes]=0.01
+ *
+ * @param enabled écrit une ligne par requête (échantillonnée)
+ * @param sampleRate proportion des requêtes journalisées (0 à 1) pour les endpoints sans taux
+ * @param slowThreshold durée au-delà de laquelle une requête est toujours journalisée
+ * @param sampleRates proportion des requêtes journalisées par méthode HTTP puis motif d'URI
+ */
+@ConfigurationProperties("equipes.request-log")
+public record RequestLogProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("1.0") double sampleRate,
+        @DefaultValue("1s") Duration slowThreshold,
+        Map<String, Map<String, Double>> sampleRates) {
+
+    /**
+     * Taux d'échantillonnage de l'endpoint, ou le taux par défaut s'il n'en a pas.
+     */
+    double sampleRate(String method, String uri) {
+        if (sampleRates == null) {
+            return sampleRate;
+        }
+        Map<String, Double> parUri = sampleRates.get(method);
+        Double rate = parUri != null ? parUri.get(uri) : null;
+        return rate != null ? rate : sampleRate;
+    }
+}
@@ -0,0 +1,84 @@
+package com.ogcnice.footballteam.metrics;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.InitializeCollectionEventListener;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * Branche les compteurs par requête HTTP ({@link RequestQueryStats}) sur Hibernate :
+ * - un StatementInspector compte les requêtes SQL préparées
+ * - le DataSource est enveloppé pour compter les lignes lues,
+ *   seulement si equipes.query-stats.row-count est activé (pas en production)
+ * - des listeners POST_LOAD et INIT_COLLECTION comptent les entités chargées
+ *   et les collections initialisées
+ *
+ * Les statistiques globales d'Hibernate (hibernate.*) sont publiées par
+ * hibernate-micrometer, activé par hibernate.generate_statistics.
+ */
+@Configuration
+@EnableConfigurationProperties(QueryStatsProperties.class)
+public class HibernateMetricsConfiguration {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "equipes.query-stats", name = "row-count", havingValue = "true")
+    public static BeanPostProcessor rowCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource dataSource && !(bean instanceof RowCountingDataSource)
+                        ? new RowCountingDataSource(dataSource)
+                        : bean;
+            }
+        };
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer requestQueryStatsCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, (StatementInspector) sql -> {
+                RequestQueryStats.statementPrepared();
+                return sql;
+            });
+            properties.put("hibernate.integrator_provider",
+                    (IntegratorProvider) () -> List.of(new RequestQueryStatsIntegrator()));
+        };
+    }
+
+    private static class RequestQueryStatsIntegrator implements Integrator {
+
+        @Override
+        public void integrate(Metadata metadata,
+                              BootstrapContext bootstrapContext,
+                              SessionFactoryImplementor sessionFactory) {
+            EventListenerRegistry registry = sessionFactory.getServiceRegistry()
+                    .getService(EventListenerRegistry.class);
+            registry.appendListeners(EventType.POST_LOAD,
+                    (PostLoadEventListener) event -> RequestQueryStats.entityLoaded());
+            registry.appendListeners(EventType.INIT_COLLECTION,
+                    (InitializeCollectionEventListener) event -> RequestQueryStats.collectionFetched());
+        }
+
+        @Override
+        public void disintegrate(SessionFactoryImplementor sessionFactory,
+                                 SessionFactoryServiceRegistry serviceRegistry) {
+        }
+    }
+}
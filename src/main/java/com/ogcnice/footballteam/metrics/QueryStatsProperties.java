@@ -0,0 +1,39 @@
+package com.ogcnice.footballteam.metrics;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.Map;
+
+/**
+ * Configuration des compteurs SQL par requête HTTP (préfixe equipes.query-stats).
+ *
+ * Exemple:
+ * equipes.query-stats.debug-header=true
+ * equipes.query-stats.budgets.GET.[/api/equipes]=3
+ *
+ * @param debugHeader ajoute les en-têtes X-Query-* aux réponses
+ * @param failFast lève une exception dès la requête SQL hors budget, avant l'envoi de la
+ *                 réponse, au lieu d'un warning en fin de requête (tests)
+ * @param rowCount compte les lignes lues : enveloppe le DataSource (proxies JDBC par réflexion,
+ *                 coût sur chaque ResultSet.next()), désactivé en production
+ * @param budgets nombre maximal de requêtes SQL par méthode HTTP puis motif d'URI
+ */
+@ConfigurationProperties("equipes.query-stats")
+public record QueryStatsProperties(
+        @DefaultValue("false") boolean debugHeader,
+        @DefaultValue("false") boolean failFast,
+        @DefaultValue("false") boolean rowCount,
+        Map<String, Map<String, Integer>> budgets) {
+
+    /**
+     * Budget de l'endpoint, ou null s'il n'en a pas.
+     */
+    Integer budget(String method, String uri) {
+        if (budgets == null) {
+            return null;
+        }
+        Map<String, Integer> parUri = budgets.get(method);
+        return parUri != null ? parUri.get(uri) : null;
+    }
+}
@@ -0,0 +1,93 @@
+package com.ogcnice.footballteam.metrics;
+
+import java.util.function.Consumer;
+
+/**
+ * Compteurs Hibernate de la requête HTTP en cours : requêtes SQL préparées,
+ * lignes lues, entités chargées et collections initialisées.
+ *
+ * Les compteurs sont attachés au thread de la requête par {@link RequestQueryStatsFilter}
+ * et alimentés par Hibernate et le DataSource (voir {@link HibernateMetricsConfiguration}).
+ * Hors d'une requête HTTP (démarrage, threads asynchrones), rien n'est compté.
+ *
+ * Un contrôle optionnel est appelé après chaque requête SQL préparée, sur le thread
+ * qui l'exécute : une exception levée par ce contrôle interrompt la requête en cours.
+ */
+public final class RequestQueryStats {
+
+    private static final ThreadLocal<RequestQueryStats> CURRENT = new ThreadLocal<>();
+
+    private long statements;
+    private long rows;
+    private long entityLoads;
+    private long collectionFetches;
+    private final Consumer<RequestQueryStats> onStatement;
+
+    private RequestQueryStats(Consumer<RequestQueryStats> onStatement) {
+        this.onStatement = onStatement;
+    }
+
+    static RequestQueryStats begin() {
+        return begin(null);
+    }
+
+    /**
+     * @param onStatement contrôle appelé après chaque requête SQL préparée, ou null
+     */
+    static RequestQueryStats begin(Consumer<RequestQueryStats> onStatement) {
+        RequestQueryStats stats = new RequestQueryStats(onStatement);
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    static void statementPrepared() {
+        RequestQueryStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.statements++;
+            if (stats.onStatement != null) {
+                stats.onStatement.accept(stats);
+            }
+        }
+    }
+
+    static void rowRead() {
+        RequestQueryStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.rows++;
+        }
+    }
+
+    static void entityLoaded() {
+        RequestQueryStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.entityLoads++;
+        }
+    }
+
+    static void collectionFetched() {
+        RequestQueryStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.collectionFetches++;
+        }
+    }
+
+    public long getStatements() {
+        return statements;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public long getEntityLoads() {
+        return entityLoads;
+    }
+
+    public long getCollectionFetches() {
+        return collectionFetches;
+    }
+}
@@ -0,0 +1,240 @@
+package com.ogcnice.footballteam.metrics;
+
+import com.ogcnice.footballteam.exception.QueryBudgetExceededException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * Compte les requêtes SQL, lignes lues, entités chargées et collections initialisées
+ * de chaque requête HTTP.
+ *
+ * - métriques hibernate.request.* par méthode et URI
+ * - en-têtes X-Query-* si equipes.query-stats.debug-header est activé
+ *   (valeurs au moment où la réponse commence à être écrite)
+ * - lignes lues (hibernate.request.rows, X-Query-Rows) seulement si
+ *   equipes.query-stats.row-count est activé
+ * - warning si le budget SQL de l'endpoint est dépassé, typiquement un N+1 sur les joueurs
+ *
+ * En mode fail-fast, le budget est contrôlé à chaque requête SQL préparée : la
+ * QueryBudgetExceededException est levée par la requête qui dépasse le budget, dans
+ * le contrôleur, avant que la réponse ne soit validée (le client reçoit une erreur,
+ * pas un 200 déjà envoyé).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RequestQueryStatsFilter extends OncePerRequestFilter {
+
+    public static final String STATEMENTS_HEADER = "X-Query-Statements";
+    public static final String ROWS_HEADER = "X-Query-Rows";
+    public static final String ENTITY_LOADS_HEADER = "X-Query-Entity-Loads";
+    public static final String COLLECTION_FETCHES_HEADER = "X-Query-Collection-Fetches";
+
+    private final MeterRegistry meterRegistry;
+    private final QueryStatsProperties properties;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        RequestQueryStats stats = properties.failFast()
+                ? RequestQueryStats.begin(current -> failIfOverBudget(request, current))
+                : RequestQueryStats.begin();
+        DebugHeaderResponse debugResponse = properties.debugHeader()
+                ? new DebugHeaderResponse(response, stats, properties.rowCount())
+                : null;
+        try {
+            filterChain.doFilter(request, debugResponse != null ? debugResponse : response);
+        } finally {
+            RequestQueryStats.end();
+            if (debugResponse != null) {
+                debugResponse.writeHeaders();
+            }
+            record(request, "hibernate.request.statements", stats.getStatements());
+            if (properties.rowCount()) {
+                record(request, "hibernate.request.rows", stats.getRows());
+            }
+            record(request, "hibernate.request.entity.loads", stats.getEntityLoads());
+            record(request, "hibernate.request.collection.fetches", stats.getCollectionFetches());
+            if (!properties.failFast()) {
+                checkBudget(request, stats);
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, String name, long value) {
+        DistributionSummary.builder(name)
+                .tag("method", request.getMethod())
+                .tag("uri", uri(request))
+                .register(meterRegistry)
+                .record(value);
+    }
+
+    /**
+     * Fin de requête : compte et journalise un dépassement de budget.
+     */
+    private void checkBudget(HttpServletRequest request, RequestQueryStats stats) {
+        Integer budget = properties.budget(request.getMethod(), uri(request));
+        if (budget == null || stats.getStatements() <= budget) {
+            return;
+        }
+        log.warn(budgetExceeded(request, stats, budget));
+    }
+
+    /**
+     * Mode fail-fast : appelé après chaque requête SQL, lève l'exception dès la première
+     * requête hors budget (une seule fois par requête HTTP).
+     */
+    private void failIfOverBudget(HttpServletRequest request, RequestQueryStats stats) {
+        Integer budget = properties.budget(request.getMethod(), uri(request));
+        if (budget == null || stats.getStatements() != budget + 1) {
+            return;
+        }
+        throw new QueryBudgetExceededException(budgetExceeded(request, stats, budget));
+    }
+
+    private String budgetExceeded(HttpServletRequest request, RequestQueryStats stats, int budget) {
+        meterRegistry.counter("hibernate.request.budget.exceeded",
+                "method", request.getMethod(),
+                "uri", uri(request)).increment();
+
+        return String.format(
+                "Budget SQL dépassé sur %s %s : %d requêtes pour un budget de %d (%d lignes, %d entités, %d collections)",
+                request.getMethod(), uri(request), stats.getStatements(), budget,
+                stats.getRows(), stats.getEntityLoads(), stats.getCollectionFetches());
+    }
+
+    /**
+     * Motif de l'URI (ex: /api/equipes/transfer) : nombre de séries borné.
+     */
+    private String uri(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+
+    /**
+     * Ajoute les en-têtes X-Query-* juste avant que la réponse ne soit validée.
+     */
+    private static class DebugHeaderResponse extends HttpServletResponseWrapper {
+
+        private final RequestQueryStats stats;
+        private final boolean rowCount;
+        private boolean headersWritten;
+        private ServletOutputStream outputStream;
+
+        DebugHeaderResponse(HttpServletResponse response, RequestQueryStats stats, boolean rowCount) {
+            super(response);
+            this.stats = stats;
+            this.rowCount = rowCount;
+        }
+
+        void writeHeaders() {
+            if (headersWritten || isCommitted()) {
+                return;
+            }
+            headersWritten = true;
+            setHeader(STATEMENTS_HEADER, String.valueOf(stats.getStatements()));
+            if (rowCount) {
+                setHeader(ROWS_HEADER, String.valueOf(stats.getRows()));
+            }
+            setHeader(ENTITY_LOADS_HEADER, String.valueOf(stats.getEntityLoads()));
+            setHeader(COLLECTION_FETCHES_HEADER, String.valueOf(stats.getCollectionFetches()));
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                outputStream = new HeaderWritingOutputStream(super.getOutputStream());
+            }
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeHeaders();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeHeaders();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeHeaders();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeHeaders();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            writeHeaders();
+            super.sendRedirect(location);
+        }
+
+        private class HeaderWritingOutputStream extends ServletOutputStream {
+
+            private final ServletOutputStream delegate;
+
+            HeaderWritingOutputStream(ServletOutputStream delegate) {
+                this.delegate = delegate;
+            }
+
+            @Override
+            public void write(int b) throws IOException {
+                writeHeaders();
+                delegate.write(b);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                writeHeaders();
+                delegate.write(b, off, len);
+            }
+
+            @Override
+            public void flush() throws IOException {
+                writeHeaders();
+                delegate.flush();
+            }
+
+            @Override
+            public void close() throws IOException {
+                writeHeaders();
+                delegate.close();
+            }
+
+            @Override
+            public boolean isReady() {
+                return delegate.isReady();
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+                delegate.setWriteListener(writeListener);
+            }
+        }
+    }
+}
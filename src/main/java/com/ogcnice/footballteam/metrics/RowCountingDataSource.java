@@ -0,0 +1,70 @@
+package com.ogcnice.footballteam.metrics;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * DataSource qui compte les lignes lues (ResultSet.next()) dans {@link RequestQueryStats}.
+ *
+ * Hibernate n'expose pas le nombre de lignes lues : connexions, statements et
+ * ResultSet sont enveloppés dans des proxies qui délèguent tous les appels.
+ */
+class RowCountingDataSource extends DelegatingDataSource {
+
+    RowCountingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return (Connection) wrap(super.getConnection(), Connection.class);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return (Connection) wrap(super.getConnection(username, password), Connection.class);
+    }
+
+    private static Object wrap(Object target, Class<?> type) {
+        return Proxy.newProxyInstance(RowCountingDataSource.class.getClassLoader(),
+                new Class<?>[]{type}, new Handler(target));
+    }
+
+    private record Handler(Object target) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getName().equals("equals")) {
+                return proxy == args[0];
+            }
+
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException ex) {
+                throw ex.getTargetException();
+            }
+
+            // Les statements et ResultSet créés sont enveloppés à leur tour
+            if (result instanceof ResultSet && method.getReturnType() == ResultSet.class) {
+                return wrap(result, ResultSet.class);
+            }
+            if (result instanceof Statement && Statement.class.isAssignableFrom(method.getReturnType())) {
+                return wrap(result, method.getReturnType());
+            }
+            if (target instanceof ResultSet && method.getName().equals("next") && Boolean.TRUE.equals(result)) {
+                RequestQueryStats.rowRead();
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.ogcnice.footballteam.metrics;
+
+import com.ogcnice.footballteam.exception.EquipeAlreadyExistsException;
+import com.ogcnice.footballteam.exception.InvalidCursorException;
+import com.ogcnice.footballteam.exception.InvalidImportException;
+import com.ogcnice.footballteam.exception.ResourceNotFoundException;
+import com.ogcnice.footballteam.exception.TransferConflictException;
+import com.ogcnice.footballteam.exception.TransferQueueFullException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Chronomètre chaque méthode publique des services (timer equipes.service).
+ *
+ * Tags :
+ * - class, method : méthode appelée
+ * - outcome : valeur de {@link SuccessOutcome} (ou success) si la méthode réussit,
+ *   sinon conflict, not_found, invalid, rejected ou error selon l'exception
+ *
+ * L'aspect est placé avant le proxy transactionnel : la durée inclut le commit.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class ServiceMetricsAspect {
+
+    static final String TIMER = "equipes.service";
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("execution(public * com.ogcnice.footballteam.service..*(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            Object result = joinPoint.proceed();
+            SuccessOutcome successOutcome = signature.getMethod().getAnnotation(SuccessOutcome.class);
+            outcome = successOutcome != null ? successOutcome.value() : "success";
+            return result;
+        } catch (Throwable ex) {
+            outcome = outcomeOf(ex);
+            throw ex;
+        } finally {
+            sample.stop(Timer.builder(TIMER)
+                    .tag("class", signature.getDeclaringType().getSimpleName())
+                    .tag("method", signature.getName())
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    private String outcomeOf(Throwable ex) {
+        if (ex instanceof EquipeAlreadyExistsException || ex instanceof TransferConflictException) {
+            return "conflict";
+        }
+        if (ex instanceof ResourceNotFoundException) {
+            return "not_found";
+        }
+        if (ex instanceof InvalidCursorException || ex instanceof InvalidImportException) {
+            return "invalid";
+        }
+        if (ex instanceof TransferQueueFullException) {
+            return "rejected";
+        }
+        return "error";
+    }
+}
@@ -0,0 +1,19 @@
+package com.ogcnice.footballteam.metrics;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Valeur du tag outcome d'une méthode de service terminée sans exception
+ * (par défaut : success).
+ *
+ * @see ServiceMetricsAspect
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SuccessOutcome {
+
+    String value();
+}
@@ -1,11 +1,15 @@
 package com.ogcnice.footballteam.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
@@ -14,9 +18,22 @@ import java.util.List;
 /**
  * Entité représentant une équipe de football.
  * Une équipe peut avoir plusieurs joueurs.
+ *
+ * Index composites (champ de tri, id) : une page triée par nom ou budget, l'ID
+ * départageant les égalités, et les filtres de GET /api/equipes (intervalle de budget,
+ * préfixe du nom) sont servis par un parcours d'index plutôt qu'un scan suivi d'un tri.
+ * L'acronyme, unique, est déjà couvert par l'index de sa contrainte, nommée pour
+ * qu'EquipeService reconnaisse sa violation (doublon détecté à l'INSERT).
+ *
+ * L'équipe et son effectif sont dans le cache de second niveau (régions equipe
+ * et equipe-joueurs, voir hibernate-cache.conf).
  */
 @Entity
-@Table(name = "equipe")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "equipe")
+@Table(name = "equipe", indexes = {
+        @Index(name = "idx_equipe_name_id", columnList = "name, id"),
+        @Index(name = "idx_equipe_budget_id", columnList = "budget, id")
+}, uniqueConstraints = @UniqueConstraint(name = Equipe.UK_ACRONYM, columnNames = "acronym"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -24,16 +41,37 @@ import java.util.List;
 @Builder
 public class Equipe {
 
+    /**
+     * Nom de la contrainte d'unicité de l'acronyme.
+     */
+    public static final String UK_ACRONYM = "uk_equipe_acronym";
+
+    /**
+     * Identifiant issu d'une séquence avec allocation par blocs (pooled) :
+     * contrairement à IDENTITY, Hibernate connaît l'ID avant l'INSERT
+     * et peut donc regrouper les insertions en batch JDBC.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "equipe_seq")
+    @SequenceGenerator(name = "equipe_seq", sequenceName = "equipe_seq", allocationSize = 50)
     private Long id;
 
+    /**
+     * Version pour le verrouillage optimiste : une modification concurrente
+     * de la même ligne est détectée au lieu d'écraser silencieusement l'autre.
+     */
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    @JsonIgnore
+    private Long version;
+
     @NotBlank(message = "Le nom de l'équipe est obligatoire")
     @Column(nullable = false)
     private String name;
 
     @NotBlank(message = "L'acronyme de l'équipe est obligatoire")
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String acronym;
 
     @NotNull(message = "Le budget est obligatoire")
@@ -47,6 +85,7 @@ public class Equipe {
      * orphanRemoval=true supprime les joueurs qui ne sont plus associés à l'équipe.
      */
     @OneToMany(mappedBy = "equipe", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "equipe-joueurs")
     @JsonManagedReference
     @Builder.Default
     private List<Joueur> joueurs = new ArrayList<>();
@@ -1,15 +1,21 @@
 package com.ogcnice.footballteam.model;
 
 import com.fasterxml.jackson.annotation.JsonBackReference;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 
 /**
  * Entité représentant un joueur de football.
  * Un joueur appartient à une seule équipe.
+ * Mis en cache de second niveau (région joueur, voir hibernate-cache.conf).
  */
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "joueur")
 @Table(name = "joueur")
 @Getter
 @Setter
@@ -18,10 +24,26 @@ import lombok.*;
 @Builder
 public class Joueur {
 
+    /**
+     * Identifiant issu d'une séquence avec allocation par blocs (pooled) :
+     * contrairement à IDENTITY, Hibernate connaît l'ID avant l'INSERT
+     * et peut donc regrouper les insertions en batch JDBC.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "joueur_seq")
+    @SequenceGenerator(name = "joueur_seq", sequenceName = "joueur_seq", allocationSize = 50)
     private Long id;
 
+    /**
+     * Version pour le verrouillage optimiste : deux transferts concurrents
+     * du même joueur ne peuvent pas réussir tous les deux sur la même version.
+     */
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    @JsonIgnore
+    private Long version;
+
     @NotBlank(message = "Le nom du joueur est obligatoire")
     @Column(nullable = false)
     private String name;
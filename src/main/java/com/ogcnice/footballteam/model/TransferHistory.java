@@ -0,0 +1,65 @@
+package com.ogcnice.footballteam.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entrée du journal des transferts (table transfer_history, en ajout seul).
+ *
+ * Écrite dans la même transaction que le transfert. Les noms des joueurs et
+ * des équipes sont copiés au moment du transfert et les IDs ne sont pas des
+ * clés étrangères : l'historique survit à la suppression d'un joueur ou d'une équipe.
+ *
+ * Les index (colonne filtrée, transferred_at, id) servent la pagination keyset
+ * par date décroissante, l'id départageant les transferts de même date.
+ */
+@Entity
+@Table(name = "transfer_history", indexes = {
+        @Index(name = "idx_transfer_history_joueur", columnList = "joueur_id, transferred_at, id"),
+        @Index(name = "idx_transfer_history_ancienne_equipe", columnList = "ancienne_equipe_id, transferred_at, id"),
+        @Index(name = "idx_transfer_history_nouvelle_equipe", columnList = "nouvelle_equipe_id, transferred_at, id")
+})
+@Immutable
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TransferHistory {
+
+    /**
+     * Séquence avec allocation par blocs : l'INSERT part avec le commit
+     * (en batch JDBC pour un lot de transferts) sans aller-retour pour l'ID.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "transfer_history_seq")
+    @SequenceGenerator(name = "transfer_history_seq", sequenceName = "transfer_history_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "joueur_id", nullable = false, updatable = false)
+    private Long joueurId;
+
+    @Column(nullable = false, updatable = false)
+    private String joueurName;
+
+    /**
+     * Équipe quittée (null pour un joueur libre).
+     */
+    @Column(name = "ancienne_equipe_id", updatable = false)
+    private Long ancienneEquipeId;
+
+    @Column(updatable = false)
+    private String ancienneEquipeName;
+
+    @Column(name = "nouvelle_equipe_id", nullable = false, updatable = false)
+    private Long nouvelleEquipeId;
+
+    @Column(nullable = false, updatable = false)
+    private String nouvelleEquipeName;
+
+    @Column(name = "transferred_at", nullable = false, updatable = false)
+    private LocalDateTime transferredAt;
+}
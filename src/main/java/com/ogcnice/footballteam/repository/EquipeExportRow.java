@@ -0,0 +1,18 @@
+package com.ogcnice.footballteam.repository;
+
+import java.math.BigDecimal;
+
+/**
+ * Ligne de l'export : une équipe et l'un de ses joueurs
+ * (colonnes joueur à null pour une équipe sans joueur).
+ * Projection scalaire : rien n'est chargé dans le contexte de persistance.
+ */
+public record EquipeExportRow(
+        Long equipeId,
+        String equipeName,
+        String acronym,
+        BigDecimal budget,
+        Long joueurId,
+        String joueurName,
+        String position) {
+}
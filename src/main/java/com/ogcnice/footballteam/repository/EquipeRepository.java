@@ -1,26 +1,91 @@
 package com.ogcnice.footballteam.repository;
 
+import com.ogcnice.footballteam.dto.EquipeView;
 import com.ogcnice.footballteam.model.Equipe;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * Repository pour l'entité Equipe.
- * Spring Data JPA génère automatiquement l'implémentation.
+ * Spring Data JPA génère automatiquement l'implémentation ; les pages filtrées
+ * viennent du fragment {@link EquipeViewRepository}.
  */
 @Repository
-public interface EquipeRepository extends JpaRepository<Equipe, Long> {
+public interface EquipeRepository extends JpaRepository<Equipe, Long>, EquipeViewRepository {
+
+    /**
+     * Région du cache des requêtes par acronyme.
+     */
+    String ACRONYM_CACHE_REGION = "equipe-by-acronym";
 
     /**
      * Vérifie si une équipe existe avec cet acronyme.
-     * Utile pour éviter les doublons lors de la création.
+     * Résultat en cache (région equipe-by-acronym), invalidé par toute écriture sur equipe.
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = ACRONYM_CACHE_REGION)
+    })
     boolean existsByAcronym(String acronym);
 
     /**
      * Trouve une équipe par son acronyme.
+     * L'ID trouvé est en cache (région equipe-by-acronym), l'équipe dans la région equipe.
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = ACRONYM_CACHE_REGION)
+    })
     Optional<Equipe> findByAcronym(String acronym);
-}
\ No newline at end of file
+
+    /**
+     * Retourne, parmi les acronymes donnés, ceux déjà utilisés.
+     * Permet de vérifier tout un lot d'équipes en une seule requête.
+     */
+    @Query("select e.acronym from Equipe e where e.acronym in :acronyms")
+    Set<String> findExistingAcronyms(@Param("acronyms") Collection<String> acronyms);
+
+    /**
+     * Page d'équipes en projection, sans joueurs : rien n'est chargé dans
+     * le contexte de persistance. Le tri du Pageable porte sur les champs de Equipe.
+     */
+    @Query(value = "select new com.ogcnice.footballteam.dto.EquipeView(e.id, e.name, e.acronym, e.budget) "
+            + "from Equipe e",
+            countQuery = "select count(e) from Equipe e")
+    Page<EquipeView> findViewsBy(Pageable pageable);
+
+    /**
+     * Toutes les équipes, sans joueurs, en projection : reconstruction des statistiques.
+     */
+    @Query("select new com.ogcnice.footballteam.repository.EquipeSummaryRow(e.id, e.name, e.acronym, e.budget) "
+            + "from Equipe e")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    List<EquipeSummaryRow> findAllSummaries();
+
+    /**
+     * Parcourt toutes les équipes et leurs joueurs en une seule requête,
+     * triées par équipe puis par joueur, en lecture séquentielle (curseur JDBC).
+     * Le Stream doit être consommé puis fermé dans une transaction.
+     */
+    @Query("select new com.ogcnice.footballteam.repository.EquipeExportRow("
+            + "e.id, e.name, e.acronym, e.budget, j.id, j.name, j.position) "
+            + "from Equipe e left join e.joueurs j order by e.id, j.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<EquipeExportRow> streamAllForExport();
+}
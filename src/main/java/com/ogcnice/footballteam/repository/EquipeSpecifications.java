@@ -0,0 +1,58 @@
+package com.ogcnice.footballteam.repository;
+
+import com.ogcnice.footballteam.dto.EquipeFilter;
+import com.ogcnice.footballteam.model.Equipe;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Critères de filtrage des équipes, écrits pour rester des conditions d'intervalle
+ * sur les colonnes indexées (budget, name) : BETWEEN / >= / <= et LIKE 'préfixe%'.
+ */
+public final class EquipeSpecifications {
+
+    private static final char ESCAPE = '\\';
+
+    private EquipeSpecifications() {
+    }
+
+    /**
+     * Combine les filtres renseignés (ET logique).
+     */
+    public static Specification<Equipe> matching(EquipeFilter filter) {
+        List<Specification<Equipe>> specs = new ArrayList<>(3);
+        if (filter.minBudget() != null) {
+            specs.add(budgetAtLeast(filter.minBudget()));
+        }
+        if (filter.maxBudget() != null) {
+            specs.add(budgetAtMost(filter.maxBudget()));
+        }
+        if (filter.namePrefix() != null) {
+            specs.add(nameStartsWith(filter.namePrefix()));
+        }
+        return Specification.allOf(specs);
+    }
+
+    public static Specification<Equipe> budgetAtLeast(BigDecimal min) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("budget"), min);
+    }
+
+    public static Specification<Equipe> budgetAtMost(BigDecimal max) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("budget"), max);
+    }
+
+    /**
+     * LIKE 'préfixe%' sans fonction sur la colonne (pas de lower()) : l'index sur name
+     * reste utilisable. Les jokers % et _ du préfixe sont échappés.
+     */
+    public static Specification<Equipe> nameStartsWith(String prefix) {
+        String pattern = prefix
+                .replace(String.valueOf(ESCAPE), "" + ESCAPE + ESCAPE)
+                .replace("%", ESCAPE + "%")
+                .replace("_", ESCAPE + "_") + "%";
+        return (root, query, cb) -> cb.like(root.get("name"), pattern, ESCAPE);
+    }
+}
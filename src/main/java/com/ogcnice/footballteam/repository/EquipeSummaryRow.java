@@ -0,0 +1,14 @@
+package com.ogcnice.footballteam.repository;
+
+import java.math.BigDecimal;
+
+/**
+ * Équipe sans ses joueurs, pour reconstruire les structures en mémoire.
+ * Projection scalaire : rien n'est chargé dans le contexte de persistance.
+ */
+public record EquipeSummaryRow(
+        Long id,
+        String name,
+        String acronym,
+        BigDecimal budget) {
+}
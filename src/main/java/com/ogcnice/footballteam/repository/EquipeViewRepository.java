@@ -0,0 +1,31 @@
+package com.ogcnice.footballteam.repository;
+
+import com.ogcnice.footballteam.dto.EquipeView;
+import com.ogcnice.footballteam.model.Equipe;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Fragment de {@link EquipeRepository} : pages d'équipes filtrées et fenêtres
+ * par clé, lues en projection.
+ */
+public interface EquipeViewRepository {
+
+    /**
+     * Page d'équipes (sans joueurs) satisfaisant la spécification, triée selon le Pageable.
+     * Le comptage n'est exécuté que si la page ne suffit pas à déduire le total.
+     */
+    Page<EquipeView> findViews(Specification<Equipe> spec, Pageable pageable);
+
+    /**
+     * Fenêtre d'équipes (sans joueurs) située après la position donnée (pagination
+     * par clé : WHERE (tri, id) > (?, ?)), sans OFFSET ni requête de comptage.
+     * Le tri doit se terminer par l'ID pour que la position soit unique.
+     */
+    Window<EquipeView> findViews(KeysetScrollPosition position, Sort sort, Limit limit);
+}
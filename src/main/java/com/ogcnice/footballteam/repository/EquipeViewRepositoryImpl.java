@@ -0,0 +1,125 @@
+package com.ogcnice.footballteam.repository;
+
+import com.ogcnice.footballteam.dto.EquipeView;
+import com.ogcnice.footballteam.model.Equipe;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.data.util.DirectFieldAccessFallbackBeanWrapper;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Implémentation Criteria de {@link EquipeViewRepository}.
+ *
+ * Même projection que {@link EquipeRepository#findViewsBy} (constructeur de EquipeView) :
+ * aucune entité n'est chargée dans le contexte de persistance.
+ */
+class EquipeViewRepositoryImpl implements EquipeViewRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<EquipeView> findViews(Specification<Equipe> spec, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<EquipeView> query = cb.createQuery(EquipeView.class);
+        Root<Equipe> equipe = query.from(Equipe.class);
+        query.select(cb.construct(EquipeView.class,
+                equipe.get("id"), equipe.get("name"), equipe.get("acronym"), equipe.get("budget")));
+        Predicate predicate = spec.toPredicate(equipe, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), equipe, cb));
+
+        TypedQuery<EquipeView> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        return PageableExecutionUtils.getPage(typedQuery.getResultList(), pageable, () -> count(spec));
+    }
+
+    @Override
+    public Window<EquipeView> findViews(KeysetScrollPosition position, Sort sort, Limit limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<EquipeView> query = cb.createQuery(EquipeView.class);
+        Root<Equipe> equipe = query.from(Equipe.class);
+        query.select(cb.construct(EquipeView.class,
+                equipe.get("id"), equipe.get("name"), equipe.get("acronym"), equipe.get("budget")));
+        if (!position.isInitial()) {
+            query.where(apres(position.getKeys(), sort, equipe, cb));
+        }
+        query.orderBy(QueryUtils.toOrders(sort, equipe, cb));
+
+        // Une ligne de plus que la fenêtre indique s'il reste des équipes
+        List<EquipeView> content = entityManager.createQuery(query)
+                .setMaxResults(limit.max() + 1)
+                .getResultList();
+        boolean hasNext = content.size() > limit.max();
+        List<EquipeView> fenetre = hasNext ? content.subList(0, limit.max()) : content;
+        return Window.from(fenetre, index -> ScrollPosition.forward(cles(fenetre.get(index), sort)), hasNext);
+    }
+
+    /**
+     * Prédicat « après la position » : (a > ?) or (a = ? and id > ?),
+     * chaque comparaison dans le sens de son tri.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Predicate apres(Map<String, Object> keys, Sort sort, Root<Equipe> equipe, CriteriaBuilder cb) {
+        List<Predicate> alternatives = new ArrayList<>();
+        List<Predicate> egalites = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            Expression<Comparable> champ = equipe.get(order.getProperty());
+            Comparable valeur = (Comparable) keys.get(order.getProperty());
+            List<Predicate> conditions = new ArrayList<>(egalites);
+            conditions.add(order.isAscending() ? cb.greaterThan(champ, valeur) : cb.lessThan(champ, valeur));
+            alternatives.add(cb.and(conditions.toArray(Predicate[]::new)));
+            egalites.add(cb.equal(champ, valeur));
+        }
+        return cb.or(alternatives.toArray(Predicate[]::new));
+    }
+
+    /**
+     * Valeurs des champs de tri de l'équipe : position pointant après elle.
+     */
+    private static Map<String, Object> cles(EquipeView equipe, Sort sort) {
+        DirectFieldAccessFallbackBeanWrapper wrapper = new DirectFieldAccessFallbackBeanWrapper(equipe);
+        Map<String, Object> keys = new LinkedHashMap<>();
+        for (Sort.Order order : sort) {
+            keys.put(order.getProperty(), wrapper.getPropertyValue(order.getProperty()));
+        }
+        return keys;
+    }
+
+    private long count(Specification<Equipe> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Equipe> equipe = query.from(Equipe.class);
+        query.select(cb.count(equipe));
+        Predicate predicate = spec.toPredicate(equipe, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
@@ -1,12 +1,60 @@
 package com.ogcnice.footballteam.repository;
 
 import com.ogcnice.footballteam.model.Joueur;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
 /**
  * Repository pour l'entité Joueur.
  */
 @Repository
 public interface JoueurRepository extends JpaRepository<Joueur, Long> {
-}
\ No newline at end of file
+
+    /**
+     * Joueurs des équipes demandées, en projection (aucune entité chargée).
+     */
+    @Query("select new com.ogcnice.footballteam.repository.JoueurRow(j.equipe.id, j.id, j.name, j.position) "
+            + "from Joueur j where j.equipe.id in :equipeIds order by j.id")
+    List<JoueurRow> findRowsByEquipeIdIn(@Param("equipeIds") Collection<Long> equipeIds);
+
+    /**
+     * Nombre de joueurs par équipe et par poste, calculé par la base
+     * (reconstruction des statistiques, pas à chaque requête).
+     */
+    @Query("select new com.ogcnice.footballteam.repository.PositionCountRow(j.equipe.id, j.position, count(j)) "
+            + "from Joueur j where j.equipe is not null group by j.equipe.id, j.position")
+    List<PositionCountRow> countByEquipeAndPosition();
+
+    /**
+     * Parcourt tous les joueurs et l'ID de leur équipe, en lecture séquentielle
+     * (curseur JDBC), pour charger l'index de recherche.
+     * Le Stream doit être consommé puis fermé dans une transaction.
+     */
+    @Query("select new com.ogcnice.footballteam.repository.JoueurSearchRow(j.id, j.name, j.position, j.equipe.id, j.version) "
+            + "from Joueur j")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<JoueurSearchRow> streamAllForSearch();
+
+    /**
+     * Charge et verrouille (SELECT ... FOR UPDATE) les joueurs demandés.
+     * Les lignes sont verrouillées dans l'ordre des IDs : deux lots concurrents
+     * prennent leurs verrous dans le même ordre et ne peuvent pas s'interbloquer.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select j from Joueur j where j.id in :ids order by j.id")
+    List<Joueur> findAllForUpdate(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,12 @@
+package com.ogcnice.footballteam.repository;
+
+/**
+ * Joueur et ID de son équipe, pour répartir les joueurs d'une page entre ses équipes.
+ * Projection scalaire : rien n'est chargé dans le contexte de persistance.
+ */
+public record JoueurRow(
+        Long equipeId,
+        Long id,
+        String name,
+        String position) {
+}
@@ -0,0 +1,14 @@
+package com.ogcnice.footballteam.repository;
+
+/**
+ * Joueur et l'ID de son équipe, pour le chargement de l'index de recherche
+ * (equipeId à null pour un joueur libre), avec sa version (transferts publiés en retard).
+ * Projection scalaire : rien n'est chargé dans le contexte de persistance.
+ */
+public record JoueurSearchRow(
+        Long id,
+        String name,
+        String position,
+        Long equipeId,
+        Long version) {
+}
@@ -0,0 +1,10 @@
+package com.ogcnice.footballteam.repository;
+
+/**
+ * Nombre de joueurs d'une équipe à un poste (GROUP BY équipe, poste).
+ */
+public record PositionCountRow(
+        Long equipeId,
+        String position,
+        Long count) {
+}
@@ -0,0 +1,47 @@
+package com.ogcnice.footballteam.repository;
+
+import com.ogcnice.footballteam.model.TransferHistory;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository du journal des transferts.
+ *
+ * Chaque lecture parcourt un index (colonne, transferred_at, id) à partir de la
+ * position du curseur, du plus récent au plus ancien : le coût d'une page ne
+ * dépend pas de sa profondeur. L'ordre suit la date du transfert et non l'id,
+ * alloué par blocs et donc sans rapport avec l'ordre des transferts.
+ */
+@Repository
+public interface TransferHistoryRepository extends JpaRepository<TransferHistory, Long> {
+
+    @Query("select t from TransferHistory t where t.joueurId = :joueurId "
+            + "and (t.transferredAt < :beforeAt or (t.transferredAt = :beforeAt and t.id < :beforeId)) "
+            + "order by t.transferredAt desc, t.id desc")
+    List<TransferHistory> findByJoueur(@Param("joueurId") Long joueurId,
+                                       @Param("beforeAt") LocalDateTime beforeAt,
+                                       @Param("beforeId") Long beforeId,
+                                       Limit limit);
+
+    @Query("select t from TransferHistory t where t.ancienneEquipeId = :equipeId "
+            + "and (t.transferredAt < :beforeAt or (t.transferredAt = :beforeAt and t.id < :beforeId)) "
+            + "order by t.transferredAt desc, t.id desc")
+    List<TransferHistory> findDepartures(@Param("equipeId") Long equipeId,
+                                         @Param("beforeAt") LocalDateTime beforeAt,
+                                         @Param("beforeId") Long beforeId,
+                                         Limit limit);
+
+    @Query("select t from TransferHistory t where t.nouvelleEquipeId = :equipeId "
+            + "and (t.transferredAt < :beforeAt or (t.transferredAt = :beforeAt and t.id < :beforeId)) "
+            + "order by t.transferredAt desc, t.id desc")
+    List<TransferHistory> findArrivals(@Param("equipeId") Long equipeId,
+                                       @Param("beforeAt") LocalDateTime beforeAt,
+                                       @Param("beforeId") Long beforeId,
+                                       Limit limit);
+}
@@ -0,0 +1,51 @@
+package com.ogcnice.footballteam.runner;
+
+import com.ogcnice.footballteam.dto.ImportReport;
+import com.ogcnice.footballteam.service.EquipeImportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+
+/**
+ * Importe un fichier d'équipes au démarrage de l'application.
+ *
+ * Activé par la propriété equipes.import.file (emplacement Spring :
+ * classpath:... ou file:...). Le format est déduit de l'extension
+ * (.csv, sinon NDJSON).
+ *
+ * Exemple d'utilisation:
+ * - java -jar footballteam.jar --equipes.import.file=file:/data/ligue.csv
+ */
+@Component
+@ConditionalOnExpression("!'${equipes.import.file:}'.isEmpty()")
+@RequiredArgsConstructor
+@Slf4j
+public class EquipeImportRunner implements ApplicationRunner {
+
+    private final EquipeImportService equipeImportService;
+    private final ResourceLoader resourceLoader;
+
+    @Value("${equipes.import.file}")
+    private String file;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        Resource resource = resourceLoader.getResource(file);
+        log.info("Import du fichier {}", resource.getDescription());
+
+        try (InputStream in = resource.getInputStream()) {
+            ImportReport report = equipeImportService.importer(in,
+                    EquipeImportService.Format.fromFilename(resource.getFilename()));
+            log.info("Fichier {} importé - {} équipes, {} joueurs ({} lignes/s)",
+                    file, report.getEquipes(), report.getJoueurs(), report.getRowsPerSecond());
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.ogcnice.footballteam.search;
+
+import com.ogcnice.footballteam.repository.EquipeSummaryRow;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Index en mémoire acronyme → ID des équipes, pour GET /api/equipes/by-acronym/{acronym}
+ * et la pré-vérification des doublons à la création.
+ *
+ * L'acronyme est comparé tel quel, comme par la contrainte d'unicité de la base.
+ * Complété par EquipeService après le commit des créations, reconstruit depuis la base
+ * par EquipeStatsReconciler (au démarrage, puis périodiquement). Une équipe insérée
+ * sans passer par EquipeService n'y figure qu'après la reconstruction suivante ;
+ * la contrainte d'unicité reste l'arbitre des doublons.
+ */
+@Component
+public class EquipeAcronymIndex {
+
+    private volatile Map<String, Long> ids = new ConcurrentHashMap<>();
+
+    /**
+     * Incrémenté à chaque ajout : une reconstruction lue pendant un ajout n'est pas installée.
+     */
+    private final AtomicLong modifications = new AtomicLong();
+
+    /**
+     * Ajouts concurrents entre eux (verrou partagé), exclusifs avec le remplacement.
+     */
+    private final ReadWriteLock verrou = new ReentrantReadWriteLock();
+
+    /**
+     * Enregistre l'acronyme d'une équipe créée.
+     */
+    public void add(String acronym, long id) {
+        verrou.readLock().lock();
+        try {
+            modifications.incrementAndGet();
+            ids.put(acronym, id);
+        } finally {
+            verrou.readLock().unlock();
+        }
+    }
+
+    /**
+     * ID de l'équipe portant cet acronyme, vide s'il est inconnu.
+     */
+    public Optional<Long> find(String acronym) {
+        return Optional.ofNullable(ids.get(acronym));
+    }
+
+    /**
+     * Nombre d'acronymes indexés.
+     */
+    public int size() {
+        return ids.size();
+    }
+
+    /**
+     * Compteur d'ajouts, à lire avant une reconstruction.
+     */
+    public long modifications() {
+        return modifications.get();
+    }
+
+    /**
+     * Remplace l'index par une reconstruction depuis la base, si aucun ajout
+     * n'a eu lieu depuis modificationsAvant.
+     *
+     * @return false si la reconstruction n'a pas été installée
+     */
+    public boolean replace(long modificationsAvant, List<EquipeSummaryRow> equipes) {
+        Map<String, Long> nouveau = new ConcurrentHashMap<>(equipes.size() * 2);
+        for (EquipeSummaryRow equipe : equipes) {
+            nouveau.put(equipe.acronym(), equipe.id());
+        }
+
+        verrou.writeLock().lock();
+        try {
+            if (modifications.get() != modificationsAvant) {
+                return false;
+            }
+            ids = nouveau;
+            return true;
+        } finally {
+            verrou.writeLock().unlock();
+        }
+    }
+}
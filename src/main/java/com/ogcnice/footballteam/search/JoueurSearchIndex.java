@@ -0,0 +1,267 @@
+package com.ogcnice.footballteam.search;
+
+import com.ogcnice.footballteam.dto.JoueurSearchResult;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Index en mémoire des joueurs pour la recherche par préfixe sur les noms.
+ *
+ * Chaque mot du nom, normalisé (minuscules, sans accents : "Gaëtan" devient "gaetan"),
+ * est une clé d'une map triée ; une recherche parcourt la plage des mots commençant
+ * par le terme le plus sélectif, puis vérifie les autres termes et la position sur
+ * les joueurs candidats. Une liste de joueurs par mot n'est jamais modifiée en place
+ * que par ajout en fin : les lectures ne prennent aucun verrou.
+ *
+ * Tenu à jour par EquipeService après le commit des créations et des transferts,
+ * chargé au démarrage par {@link JoueurSearchIndexLoader}. Un ajout déjà indexé
+ * est ignoré : l'ordre entre chargement et mises à jour est indifférent.
+ * Un transfert porte la version du joueur (@Version) écrite par son commit :
+ * les callbacks après commit de deux transferts concurrents pouvant s'exécuter
+ * dans le désordre, un transfert plus ancien que l'état indexé est ignoré.
+ */
+@Component
+public class JoueurSearchIndex {
+
+    private final Map<Long, Entree> joueurs = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<String, Postings> index = new ConcurrentSkipListMap<>();
+    private final Map<Long, String> equipes = new ConcurrentHashMap<>();
+    private final Map<String, Position> positions = new ConcurrentHashMap<>();
+
+    /**
+     * Joueur indexé ; nom et position normalisés pour la comparaison.
+     */
+    private record Entree(long id, String name, String nomNormalise, Position position, Long equipeId,
+                          long version) {
+
+        Entree avecEquipe(Long nouvelleEquipeId, long nouvelleVersion) {
+            return new Entree(id, name, nomNormalise, position, nouvelleEquipeId, nouvelleVersion);
+        }
+    }
+
+    /**
+     * Position partagée par tous les joueurs qui l'ont (quelques valeurs distinctes).
+     */
+    private record Position(String libelle, String normalisee) {
+    }
+
+    /**
+     * Ajoute un joueur, sauf s'il est déjà indexé.
+     *
+     * @param version version du joueur lue avec son équipe (0 à la création)
+     */
+    public void add(long id, String name, String position, Long equipeId, long version) {
+        String nomNormalise = normaliser(name);
+        Position pos = positions.computeIfAbsent(position, p -> new Position(p, normaliser(p)));
+        if (joueurs.putIfAbsent(id, new Entree(id, name, nomNormalise, pos, equipeId, version)) != null) {
+            return;
+        }
+        for (String mot : mots(nomNormalise)) {
+            index.computeIfAbsent(mot, m -> new Postings()).add(id);
+        }
+    }
+
+    /**
+     * Enregistre le nom d'une équipe, renvoyé avec ses joueurs.
+     */
+    public void addEquipe(long id, String name) {
+        equipes.put(id, name);
+    }
+
+    /**
+     * Change l'équipe d'un joueur indexé (transfert), sauf si l'index reflète déjà
+     * une version plus récente du joueur. À version égale (plusieurs transferts
+     * du même joueur dans un lot, un seul UPDATE), le dernier appel l'emporte.
+     *
+     * @param version version du joueur après le commit du transfert
+     */
+    public void move(long joueurId, Long equipeId, long version) {
+        joueurs.computeIfPresent(joueurId, (id, entree) ->
+                entree.version() > version ? entree : entree.avecEquipe(equipeId, version));
+    }
+
+    /**
+     * Nombre de joueurs indexés.
+     */
+    public int size() {
+        return joueurs.size();
+    }
+
+    /**
+     * Recherche les joueurs dont chaque terme de la requête commence un mot du nom.
+     *
+     * Exemples: "lab" trouve "Gaëtan Laborde", "k thu" trouve "Khéphren Thuram".
+     *
+     * @param query termes recherchés (casse et accents ignorés)
+     * @param position position exacte (casse et accents ignorés), ou null pour toutes
+     * @param limit nombre maximal de résultats
+     * @return joueurs trouvés, par mot correspondant puis par ID
+     */
+    public List<JoueurSearchResult> search(String query, String position, int limit) {
+        String[] termes = mots(normaliser(query));
+        if (termes.length == 0 || limit <= 0) {
+            return List.of();
+        }
+        String positionNormalisee = position == null || position.isBlank() ? null : normaliser(position).trim();
+
+        // Le terme dont la plage de mots contient le moins de joueurs pilote le parcours
+        int pilote = 0;
+        long minimum = Long.MAX_VALUE;
+        for (int i = 0; i < termes.length; i++) {
+            long candidats = compter(plage(termes[i]), minimum);
+            if (candidats < minimum) {
+                minimum = candidats;
+                pilote = i;
+            }
+        }
+
+        List<JoueurSearchResult> resultats = new ArrayList<>(Math.min(limit, 16));
+        Set<Long> trouves = new HashSet<>();
+        for (Postings postings : plage(termes[pilote]).values()) {
+            int count = postings.count;
+            long[] ids = postings.ids;
+            for (int i = 0; i < count; i++) {
+                Entree entree = joueurs.get(ids[i]);
+                if (entree == null
+                        || (positionNormalisee != null && !entree.position().normalisee().equals(positionNormalisee))
+                        || !correspond(entree.nomNormalise(), termes, pilote)
+                        || !trouves.add(entree.id())) {
+                    continue;
+                }
+                resultats.add(JoueurSearchResult.builder()
+                        .id(entree.id())
+                        .name(entree.name())
+                        .position(entree.position().libelle())
+                        .equipeId(entree.equipeId())
+                        .equipeName(entree.equipeId() != null ? equipes.get(entree.equipeId()) : null)
+                        .build());
+                if (resultats.size() == limit) {
+                    return resultats;
+                }
+            }
+        }
+        return resultats;
+    }
+
+    /**
+     * Minuscules sans accents, tout caractère autre que lettre ou chiffre devient une espace.
+     * Les noms ASCII (cas courant) ne passent pas par java.text.Normalizer.
+     */
+    static String normaliser(String texte) {
+        if (texte == null) {
+            return "";
+        }
+        String decompose = texte;
+        for (int i = 0; i < texte.length(); i++) {
+            if (texte.charAt(i) >= 0x80) {
+                decompose = Normalizer.normalize(texte, Normalizer.Form.NFD);
+                break;
+            }
+        }
+
+        StringBuilder sb = new StringBuilder(decompose.length());
+        for (int i = 0; i < decompose.length(); i++) {
+            char c = decompose.charAt(i);
+            if (c < 0x80) {
+                sb.append(Character.isLetterOrDigit(c) ? Character.toLowerCase(c) : ' ');
+            } else if (Character.getType(c) == Character.NON_SPACING_MARK) {
+                // Accent séparé de sa lettre par la décomposition NFD
+                continue;
+            } else if (c == 'œ' || c == 'Œ') {
+                sb.append("oe");
+            } else if (c == 'æ' || c == 'Æ') {
+                sb.append("ae");
+            } else {
+                sb.append(Character.isLetterOrDigit(c) ? Character.toLowerCase(c) : ' ');
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Mots d'un texte normalisé.
+     */
+    private static String[] mots(String normalise) {
+        String trimmed = normalise.trim();
+        return trimmed.isEmpty() ? new String[0] : trimmed.split(" +");
+    }
+
+    /**
+     * Mots commençant par le préfixe.
+     */
+    private NavigableMap<String, Postings> plage(String prefixe) {
+        return index.subMap(prefixe, true, prefixe + Character.MAX_VALUE, false);
+    }
+
+    /**
+     * Nombre de joueurs de la plage, compté au plus jusqu'à plafond.
+     */
+    private static long compter(NavigableMap<String, Postings> plage, long plafond) {
+        long total = 0;
+        for (Postings postings : plage.values()) {
+            total += postings.count;
+            if (total >= plafond) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Vérifie que chaque terme, sauf le pilote déjà vérifié par l'index, commence un mot du nom.
+     */
+    private static boolean correspond(String nom, String[] termes, int pilote) {
+        for (int t = 0; t < termes.length; t++) {
+            if (t != pilote && !commenceUnMot(nom, termes[t])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean commenceUnMot(String nom, String terme) {
+        int from = 0;
+        while (true) {
+            int i = nom.indexOf(terme, from);
+            if (i < 0) {
+                return false;
+            }
+            if (i == 0 || nom.charAt(i - 1) == ' ') {
+                return true;
+            }
+            from = i + 1;
+        }
+    }
+
+    /**
+     * IDs des joueurs d'un mot, en ajout seul.
+     *
+     * Une case n'est écrite qu'avant la publication du compteur qui la couvre
+     * (écriture volatile) : un lecteur qui lit count puis ids voit des cases complètes.
+     */
+    private static final class Postings {
+
+        private volatile long[] ids = new long[2];
+        private volatile int count;
+
+        synchronized void add(long id) {
+            long[] courant = ids;
+            if (count == courant.length) {
+                courant = Arrays.copyOf(courant, courant.length * 2);
+                ids = courant;
+            }
+            courant[count] = id;
+            count++;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.ogcnice.footballteam.search;
+
+import com.ogcnice.footballteam.repository.EquipeRepository;
+import com.ogcnice.footballteam.repository.EquipeSummaryRow;
+import com.ogcnice.footballteam.repository.JoueurRepository;
+import com.ogcnice.footballteam.repository.JoueurSearchRow;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.stream.Stream;
+
+/**
+ * Charge l'index de recherche des joueurs au démarrage, avant l'import du fichier
+ * de démarrage (indexé au fil des créations) : les noms de toutes les équipes,
+ * y compris celles sans joueur, puis les joueurs en une requête lue en flux.
+ *
+ * La taille de l'index est publiée dans la jauge equipes.search.joueurs.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JoueurSearchIndexLoader {
+
+    private final JoueurSearchIndex index;
+    private final EquipeRepository equipeRepository;
+    private final JoueurRepository joueurRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @PostConstruct
+    void load() {
+        long debut = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> {
+            // Une équipe sans joueur au démarrage peut en recevoir un par transfert
+            for (EquipeSummaryRow equipe : equipeRepository.findAllSummaries()) {
+                index.addEquipe(equipe.id(), equipe.name());
+            }
+            try (Stream<JoueurSearchRow> rows = joueurRepository.streamAllForSearch()) {
+                rows.forEach(row -> index.add(row.id(), row.name(), row.position(), row.equipeId(), row.version()));
+            }
+        });
+        Gauge.builder("equipes.search.joueurs", index, JoueurSearchIndex::size)
+                .description("Joueurs dans l'index de recherche")
+                .register(meterRegistry);
+
+        log.info("Index de recherche chargé - {} joueurs en {} ms",
+                index.size(), (System.nanoTime() - debut) / 1_000_000);
+    }
+}
@@ -0,0 +1,114 @@
+package com.ogcnice.footballteam.service;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ogcnice.footballteam.repository.EquipeExportRow;
+import com.ogcnice.footballteam.repository.EquipeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Service d'export de toutes les équipes et de leurs joueurs au format NDJSON
+ * (une équipe par ligne).
+ *
+ * L'export lit une seule requête en flux (curseur JDBC) et écrit chaque ligne
+ * au fil de l'eau : la mémoire utilisée ne dépend ni du nombre d'équipes
+ * ni de la taille des effectifs.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EquipeExportService {
+
+    /**
+     * Nombre d'équipes écrites entre deux flush vers le client.
+     */
+    private static final int FLUSH_EVERY = 100;
+
+    private final EquipeRepository equipeRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Écrit toutes les équipes, avec leurs joueurs, dans le flux de sortie.
+     *
+     * Exemple de ligne:
+     * {"id":1,"name":"OGC Nice","acronym":"OGCN","budget":50000000.00,
+     *  "joueurs":[{"id":1,"name":"Kasper Schmeichel","position":"Gardien"}]}
+     *
+     * @param out flux de sortie (non fermé par cette méthode)
+     * @return nombre d'équipes exportées
+     */
+    @Transactional(readOnly = true)
+    public long exportNdjson(OutputStream out) throws IOException {
+        long equipes = 0;
+        long joueurs = 0;
+
+        try (Stream<EquipeExportRow> rows = equipeRepository.streamAllForExport();
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // Les équipes sont séparées par le saut de ligne écrit par endEquipe
+            generator.setRootValueSeparator(null);
+            Long equipeCourante = null;
+
+            // Les lignes arrivent triées par équipe : on ferme l'équipe précédente
+            // dès que l'ID change
+            Iterator<EquipeExportRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                EquipeExportRow row = iterator.next();
+
+                if (!row.equipeId().equals(equipeCourante)) {
+                    if (equipeCourante != null) {
+                        endEquipe(generator);
+                        if (equipes % FLUSH_EVERY == 0) {
+                            generator.flush();
+                        }
+                    }
+                    startEquipe(generator, row);
+                    equipeCourante = row.equipeId();
+                    equipes++;
+                }
+
+                if (row.joueurId() != null) {
+                    generator.writeStartObject();
+                    generator.writeNumberField("id", row.joueurId());
+                    generator.writeStringField("name", row.joueurName());
+                    generator.writeStringField("position", row.position());
+                    generator.writeEndObject();
+                    joueurs++;
+                }
+            }
+
+            if (equipeCourante != null) {
+                endEquipe(generator);
+            }
+            generator.flush();
+        }
+
+        log.info("Export terminé - {} équipes, {} joueurs", equipes, joueurs);
+        return equipes;
+    }
+
+    private void startEquipe(JsonGenerator generator, EquipeExportRow row) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("id", row.equipeId());
+        generator.writeStringField("name", row.equipeName());
+        generator.writeStringField("acronym", row.acronym());
+        generator.writeNumberField("budget", row.budget());
+        generator.writeArrayFieldStart("joueurs");
+    }
+
+    private void endEquipe(JsonGenerator generator) throws IOException {
+        generator.writeEndArray();
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+}
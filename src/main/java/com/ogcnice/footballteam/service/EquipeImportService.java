@@ -0,0 +1,295 @@
+package com.ogcnice.footballteam.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ogcnice.footballteam.dto.BulkCreateEquipeResponse;
+import com.ogcnice.footballteam.dto.CreateEquipeRequest;
+import com.ogcnice.footballteam.dto.ImportReport;
+import com.ogcnice.footballteam.exception.InvalidImportException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Service d'import en masse d'équipes et de joueurs depuis un fichier CSV ou NDJSON.
+ *
+ * Le fichier est lu en flux, équipe par équipe. Les équipes sont envoyées
+ * par lots à {@link EquipeService#createEquipes(List)} : chaque lot est validé
+ * dans sa propre transaction (INSERT en batch JDBC) : seuls le lot en cours et
+ * les acronymes déjà lus (pour refuser une équipe répétée) restent en mémoire.
+ *
+ * Formats acceptés :
+ * - CSV : en-tête "acronym,name,budget,joueur_name,position", une ligne par joueur,
+ *   les lignes d'une même équipe se suivent (sinon l'import est refusé) ; une
+ *   équipe sans joueur a joueur_name et position vides
+ * - NDJSON : une équipe par ligne, au format de GET /api/equipes/export
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EquipeImportService {
+
+    /**
+     * Nombre de lignes (équipes + joueurs) validées par transaction.
+     */
+    static final int IMPORT_CHUNK_ROWS = 10_000;
+
+    private static final String CSV_HEADER = "acronym,name,budget,joueur_name,position";
+
+    private final EquipeService equipeService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    /**
+     * Format du fichier importé.
+     */
+    public enum Format {
+        CSV,
+        NDJSON;
+
+        /**
+         * Déduit le format de l'extension du fichier (NDJSON par défaut).
+         */
+        public static Format fromFilename(String filename) {
+            return filename != null && filename.toLowerCase().endsWith(".csv") ? CSV : NDJSON;
+        }
+    }
+
+    /**
+     * Importe toutes les équipes du flux.
+     *
+     * Une équipe dont l'acronyme existe déjà en base est ignorée et comptée en conflit.
+     * Une ligne mal formée, ou un acronyme qui réapparaît plus loin dans le fichier
+     * (lignes d'une équipe non consécutives), arrête l'import : les lots précédents
+     * restent validés.
+     *
+     * @param in contenu du fichier (non fermé par cette méthode)
+     * @param format format du fichier
+     * @return compteurs et débit de l'import
+     */
+    public ImportReport importer(InputStream in, Format format) throws IOException {
+        log.info("Début de l'import {}", format);
+        long debut = System.nanoTime();
+
+        Lots lots = new Lots();
+        if (format == Format.CSV) {
+            lireCsv(in, lots);
+        } else {
+            lireNdjson(in, lots);
+        }
+        lots.valider();
+
+        long durationMs = (System.nanoTime() - debut) / 1_000_000;
+        long lignes = lots.equipesLues + lots.joueursLus;
+        ImportReport report = ImportReport.builder()
+                .equipes(lots.equipes)
+                .joueurs(lots.joueurs)
+                .conflicts(lots.conflicts)
+                .durationMs(durationMs)
+                .rowsPerSecond(lignes * 1000 / Math.max(durationMs, 1))
+                .build();
+
+        log.info("Import terminé - {} équipes, {} joueurs, {} en conflit en {} ms ({} lignes/s)",
+                report.getEquipes(),
+                report.getJoueurs(),
+                report.getConflicts(),
+                report.getDurationMs(),
+                report.getRowsPerSecond());
+
+        return report;
+    }
+
+    private void lireNdjson(InputStream in, Lots lots) throws IOException {
+        try (MappingIterator<CreateEquipeRequest> equipes =
+                     objectMapper.readerFor(CreateEquipeRequest.class).readValues(in)) {
+            while (true) {
+                CreateEquipeRequest request;
+                try {
+                    if (!equipes.hasNextValue()) {
+                        break;
+                    }
+                    request = equipes.nextValue();
+                } catch (JsonProcessingException ex) {
+                    throw new InvalidImportException("Ligne " + ex.getLocation().getLineNr()
+                            + " : JSON invalide (" + ex.getOriginalMessage() + ")");
+                }
+                lots.ajouter(request, equipes.getCurrentLocation().getLineNr());
+            }
+        }
+    }
+
+    private void lireCsv(InputStream in, Lots lots) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+
+        String header = reader.readLine();
+        if (header == null || !CSV_HEADER.equals(header.replace("\uFEFF", "").trim())) {
+            throw new InvalidImportException("Ligne 1 : en-tête attendu \"" + CSV_HEADER + "\"");
+        }
+
+        // Les lignes d'une même équipe se suivent : l'équipe courante est
+        // ajoutée au lot dès que l'acronyme change
+        CreateEquipeRequest courante = null;
+        long ligneCourante = 0;
+        String line;
+        long lineNr = 1;
+        while ((line = reader.readLine()) != null) {
+            lineNr++;
+            if (line.isBlank()) {
+                continue;
+            }
+
+            List<String> colonnes = parseCsvLine(line, lineNr);
+            if (colonnes.size() != 5) {
+                throw new InvalidImportException("Ligne " + lineNr + " : 5 colonnes attendues, "
+                        + colonnes.size() + " trouvées");
+            }
+
+            String acronym = colonnes.get(0);
+            if (courante == null || !courante.getAcronym().equals(acronym)) {
+                if (courante != null) {
+                    lots.ajouter(courante, ligneCourante);
+                }
+                courante = CreateEquipeRequest.builder()
+                        .acronym(acronym)
+                        .name(colonnes.get(1))
+                        .budget(parseBudget(colonnes.get(2), lineNr))
+                        .joueurs(new ArrayList<>())
+                        .build();
+                ligneCourante = lineNr;
+            }
+
+            if (!colonnes.get(3).isEmpty() || !colonnes.get(4).isEmpty()) {
+                courante.getJoueurs().add(CreateEquipeRequest.CreateJoueurRequest.builder()
+                        .name(colonnes.get(3))
+                        .position(colonnes.get(4))
+                        .build());
+            }
+        }
+
+        if (courante != null) {
+            lots.ajouter(courante, ligneCourante);
+        }
+    }
+
+    /**
+     * Découpe une ligne CSV ; les champs entre guillemets peuvent contenir
+     * des virgules et des guillemets doublés ("").
+     */
+    private List<String> parseCsvLine(String line, long lineNr) {
+        List<String> colonnes = new ArrayList<>(5);
+        StringBuilder champ = new StringBuilder();
+        boolean entreGuillemets = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (entreGuillemets) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    champ.append('"');
+                    i++;
+                } else if (c == '"') {
+                    entreGuillemets = false;
+                } else {
+                    champ.append(c);
+                }
+            } else if (c == '"') {
+                entreGuillemets = true;
+            } else if (c == ',') {
+                colonnes.add(champ.toString().trim());
+                champ.setLength(0);
+            } else {
+                champ.append(c);
+            }
+        }
+
+        if (entreGuillemets) {
+            throw new InvalidImportException("Ligne " + lineNr + " : guillemet non fermé");
+        }
+        colonnes.add(champ.toString().trim());
+        return colonnes;
+    }
+
+    private BigDecimal parseBudget(String budget, long lineNr) {
+        try {
+            return new BigDecimal(budget);
+        } catch (NumberFormatException ex) {
+            throw new InvalidImportException("Ligne " + lineNr + " : budget invalide \"" + budget + "\"");
+        }
+    }
+
+    /**
+     * Lot d'équipes en attente et compteurs de l'import.
+     */
+    private class Lots {
+
+        private final List<CreateEquipeRequest> enAttente = new ArrayList<>();
+        private final Map<String, Long> premieresLignes = new HashMap<>();
+        private int lignesEnAttente;
+        private long equipesLues;
+        private long joueursLus;
+        private long equipes;
+        private long joueurs;
+        private long conflicts;
+
+        void ajouter(CreateEquipeRequest request, long lineNr) {
+            Set<ConstraintViolation<CreateEquipeRequest>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                throw new InvalidImportException("Ligne " + lineNr + " : "
+                        + violations.iterator().next().getMessage());
+            }
+
+            // Sans ce contrôle, la seconde occurrence (souvent dans un autre lot)
+            // serait ignorée comme un simple conflit d'acronyme
+            Long premiereLigne = premieresLignes.putIfAbsent(request.getAcronym(), lineNr);
+            if (premiereLigne != null) {
+                throw new InvalidImportException("Ligne " + lineNr + " : l'équipe " + request.getAcronym()
+                        + " apparaît déjà ligne " + premiereLigne + ", ses lignes doivent se suivre");
+            }
+
+            int nbJoueurs = request.getJoueurs() == null ? 0 : request.getJoueurs().size();
+            enAttente.add(request);
+            lignesEnAttente += 1 + nbJoueurs;
+            equipesLues++;
+            joueursLus += nbJoueurs;
+
+            if (lignesEnAttente >= IMPORT_CHUNK_ROWS) {
+                valider();
+            }
+        }
+
+        void valider() {
+            if (enAttente.isEmpty()) {
+                return;
+            }
+
+            BulkCreateEquipeResponse response = equipeService.createEquipes(enAttente);
+            equipes += response.getCreated();
+            conflicts += response.getConflicts();
+            for (BulkCreateEquipeResponse.Result result : response.getResults()) {
+                if (result.getStatus() == BulkCreateEquipeResponse.Status.CREATED) {
+                    List<CreateEquipeRequest.CreateJoueurRequest> joueursEquipe =
+                            enAttente.get(result.getIndex()).getJoueurs();
+                    joueurs += joueursEquipe == null ? 0 : joueursEquipe.size();
+                }
+            }
+            log.debug("Lot importé - {} équipes au total", equipes);
+
+            enAttente.clear();
+            lignesEnAttente = 0;
+        }
+    }
+}
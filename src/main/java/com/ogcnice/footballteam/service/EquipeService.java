@@ -1,20 +1,67 @@
 package com.ogcnice.footballteam.service;
 
+import com.ogcnice.footballteam.cache.EquipeDataVersion;
+import com.ogcnice.footballteam.cache.EquipePageCache;
+import com.ogcnice.footballteam.dto.BatchTransferRequest;
+import com.ogcnice.footballteam.dto.BulkCreateEquipeResponse;
 import com.ogcnice.footballteam.dto.CreateEquipeRequest;
+import com.ogcnice.footballteam.dto.CursorPage;
+import com.ogcnice.footballteam.dto.EquipeCursor;
+import com.ogcnice.footballteam.dto.EquipeFilter;
+import com.ogcnice.footballteam.dto.EquipePageResponse;
+import com.ogcnice.footballteam.dto.EquipeView;
+import com.ogcnice.footballteam.dto.JoueurView;
 import com.ogcnice.footballteam.dto.TransferJoueurRequest;
 import com.ogcnice.footballteam.dto.TransferJoueurResponse;
 import com.ogcnice.footballteam.exception.EquipeAlreadyExistsException;
 import com.ogcnice.footballteam.exception.ResourceNotFoundException;
+import com.ogcnice.footballteam.exception.TransferConflictException;
+import com.ogcnice.footballteam.metrics.SuccessOutcome;
 import com.ogcnice.footballteam.model.Equipe;
 import com.ogcnice.footballteam.model.Joueur;
+import com.ogcnice.footballteam.model.TransferHistory;
 import com.ogcnice.footballteam.repository.EquipeRepository;
+import com.ogcnice.footballteam.repository.EquipeSpecifications;
 import com.ogcnice.footballteam.repository.JoueurRepository;
+import com.ogcnice.footballteam.repository.JoueurRow;
+import com.ogcnice.footballteam.repository.JoueurSearchRow;
+import com.ogcnice.footballteam.search.EquipeAcronymIndex;
+import com.ogcnice.footballteam.search.JoueurSearchIndex;
+import com.ogcnice.footballteam.stats.BudgetLeaderboard;
+import com.ogcnice.footballteam.stats.EquipeStatsSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Service métier pour la gestion des équipes et transferts.
@@ -24,124 +71,712 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 public class EquipeService {
 
+    /**
+     * Nombre d'équipes persistées entre deux flush/clear lors d'une création en masse.
+     * Garde le contexte de persistance petit sans casser le batching JDBC.
+     */
+    private static final int BULK_FLUSH_SIZE = 500;
+
+    /**
+     * Nombre maximal de tentatives d'un transfert en conflit de version.
+     */
+    private static final int TRANSFER_MAX_ATTEMPTS = 5;
+
+    /**
+     * Attente maximale (ms) avant la nouvelle tentative, multipliée par le numéro de tentative.
+     */
+    private static final long TRANSFER_BACKOFF_MS = 5;
+
+    /**
+     * Compteur des conflits de version rencontrés sur les transferts.
+     */
+    private static final String TRANSFER_CONFLICTS = "equipes.transfer.conflicts";
+
+    /**
+     * Compteur des équipes d'une création en masse, par outcome (created, conflict).
+     */
+    private static final String BULK_ITEMS = "equipes.bulk.items";
+
     private final EquipeRepository equipeRepository;
     private final JoueurRepository joueurRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final EquipePageCache equipePageCache;
+    private final EquipeDataVersion equipeDataVersion;
+    private final JoueurSearchIndex joueurSearchIndex;
+    private final EquipeAcronymIndex equipeAcronymIndex;
+    private final EquipeStatsSummary equipeStatsSummary;
+    private final BudgetLeaderboard budgetLeaderboard;
+    private final MeterRegistry meterRegistry;
 
     /**
-     * Récupère toutes les équipes avec pagination et tri.
+     * Récupère toutes les équipes avec pagination et tri, sans filtre.
      *
      * @param pageable configuration de la pagination et du tri
-     * @return Page d'équipes
+     * @return page d'équipes avec leurs joueurs
      */
     @Transactional(readOnly = true)
-    public Page<Equipe> getAllEquipes(Pageable pageable) {
-        log.debug("Récupération des équipes - page: {}, taille: {}, tri: {}",
-                pageable.getPageNumber(),
-                pageable.getPageSize(),
-                pageable.getSort());
+    public EquipePageResponse getAllEquipes(Pageable pageable) {
+        return getAllEquipes(EquipeFilter.NONE, pageable);
+    }
+
+    /**
+     * Récupère les équipes satisfaisant les filtres, avec pagination et tri.
+     *
+     * Les équipes et leurs joueurs sont lus en projections, directement dans
+     * les objets de la réponse : aucune entité n'est chargée dans le contexte
+     * de persistance. Les joueurs de la page sont lus par une seconde requête
+     * unique (IN sur les IDs de la page) : le nombre de requêtes SQL reste fixe
+     * quelle que soit la taille de la page.
+     *
+     * Les filtres sont des intervalles sur les colonnes indexées (budget, name) :
+     * voir {@link EquipeSpecifications}.
+     *
+     * @param filter filtres (budget, préfixe du nom), EquipeFilter.NONE pour toutes les équipes
+     * @param pageable configuration de la pagination et du tri
+     * @return page d'équipes avec leurs joueurs
+     */
+    @Transactional(readOnly = true)
+    public EquipePageResponse getAllEquipes(EquipeFilter filter, Pageable pageable) {
+        if (log.isDebugEnabled()) {
+            log.debug("Récupération des équipes - page: {}, taille: {}, tri: {}, filtres: {}",
+                    pageable.getPageNumber(),
+                    pageable.getPageSize(),
+                    pageable.getSort(),
+                    filter);
+        }
+
+        Page<EquipeView> equipes = filter.isEmpty()
+                ? equipeRepository.findViewsBy(pageable)
+                : equipeRepository.findViews(EquipeSpecifications.matching(filter), pageable);
+        ajouterJoueurs(equipes.getContent());
 
-        return equipeRepository.findAll(pageable);
+        return EquipePageResponse.from(equipes);
+    }
+
+    /**
+     * Récupère une page d'équipes par curseur (pagination keyset).
+     *
+     * Le coût d'une page est constant quelle que soit sa profondeur :
+     * pas d'OFFSET ni de requête de comptage. Comme pour la pagination par
+     * numéro de page, équipes et joueurs sont lus en projections (deux requêtes,
+     * aucune entité chargée).
+     *
+     * @param sortBy champ de tri (name, acronym ou budget)
+     * @param direction direction du tri
+     * @param cursor curseur de la page précédente, ou null pour la première page
+     * @param size taille de la page
+     * @return page d'équipes avec le curseur de la page suivante
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<EquipeView> getEquipesByCursor(String sortBy, Sort.Direction direction,
+                                                     EquipeCursor cursor, int size) {
+        if (log.isDebugEnabled()) {
+            log.debug("Récupération des équipes par curseur - tri: {} {}, taille: {}",
+                    sortBy, direction, size);
+        }
+
+        // L'ID départage les égalités sur le champ de tri
+        Sort sort = Sort.by(direction, sortBy).and(Sort.by(direction, "id"));
+        KeysetScrollPosition position = cursor == null
+                ? ScrollPosition.keyset()
+                : ScrollPosition.forward(Map.of(sortBy, cursor.value(), "id", cursor.id()));
+
+        Window<EquipeView> window = equipeRepository.findViews(position, sort, Limit.of(size));
+        ajouterJoueurs(window.getContent());
+
+        String nextCursor = window.hasNext() && !window.isEmpty()
+                ? EquipeCursor.after(window.getContent().get(window.size() - 1), sortBy, direction).encode()
+                : null;
+
+        return CursorPage.<EquipeView>builder()
+                .content(window.getContent())
+                .size(window.size())
+                .nextCursor(nextCursor)
+                .hasNext(nextCursor != null)
+                .build();
+    }
+
+    /**
+     * Récupère une équipe et ses joueurs par son acronyme.
+     *
+     * L'ID est lu dans l'index des acronymes en mémoire : un acronyme inconnu
+     * est rejeté sans requête. L'équipe, son effectif et ses joueurs sont ensuite
+     * lus par leurs clés, dans le cache de second niveau quand ils y sont.
+     *
+     * @param acronym acronyme exact (ex: OGCN)
+     * @return l'équipe avec ses joueurs
+     * @throws ResourceNotFoundException si aucune équipe ne porte cet acronyme
+     */
+    @Transactional(readOnly = true)
+    public EquipeView getEquipeByAcronym(String acronym) {
+        return equipeAcronymIndex.find(acronym)
+                .flatMap(equipeRepository::findById)
+                .map(EquipeView::from)
+                .orElseThrow(() -> new ResourceNotFoundException("Équipe non trouvée avec l'acronyme: " + acronym));
     }
 
     /**
      * Crée une nouvelle équipe avec ou sans joueurs.
      *
+     * Un acronyme déjà présent dans l'index en mémoire est rejeté sans requête.
+     * Sinon l'équipe est insérée directement : un doublon que l'index ne connaissait
+     * pas (création concurrente, insertion hors de l'API) est détecté par la
+     * contrainte d'unicité de l'acronyme, dont la violation devient un conflit.
+     *
      * @param request données de l'équipe à créer
      * @return l'équipe créée
      * @throws EquipeAlreadyExistsException si l'acronyme existe déjà
      */
     @Transactional
+    @SuccessOutcome("created")
     public Equipe createEquipe(CreateEquipeRequest request) {
-        log.info("Création d'une nouvelle équipe: {}", request.getAcronym());
+        log.debug("Création d'une nouvelle équipe: {}", request.getAcronym());
 
-        // Vérification de l'unicité de l'acronyme
-        if (equipeRepository.existsByAcronym(request.getAcronym())) {
-            log.error("L'équipe avec l'acronyme {} existe déjà", request.getAcronym());
-            throw new EquipeAlreadyExistsException(
-                    "Une équipe avec l'acronyme " + request.getAcronym() + " existe déjà"
-            );
+        if (equipeAcronymIndex.find(request.getAcronym()).isPresent()) {
+            throw equipeDejaExistante(request.getAcronym());
         }
 
-        // Création de l'équipe
-        Equipe equipe = Equipe.builder()
-                .name(request.getName())
-                .acronym(request.getAcronym())
-                .budget(request.getBudget())
-                .build();
-
-        // Ajout des joueurs si présents
-        if (request.getJoueurs() != null && !request.getJoueurs().isEmpty()) {
-            log.debug("Ajout de {} joueurs à l'équipe", request.getJoueurs().size());
-
-            request.getJoueurs().forEach(joueurRequest -> {
-                Joueur joueur = Joueur.builder()
-                        .name(joueurRequest.getName())
-                        .position(joueurRequest.getPosition())
-                        .build();
-                equipe.addJoueur(joueur);
-            });
+        Equipe savedEquipe;
+        try {
+            // Flush immédiat : la violation de contrainte est levée ici et non au commit
+            savedEquipe = equipeRepository.saveAndFlush(toEquipe(request));
+        } catch (DataIntegrityViolationException e) {
+            if (!violeUniciteAcronyme(e)) {
+                throw e;
+            }
+            throw equipeDejaExistante(request.getAcronym());
         }
-
-        Equipe savedEquipe = equipeRepository.save(equipe);
-        log.info("Équipe créée avec succès - ID: {}, Acronyme: {}",
+        signalerToutesEquipesModifiees();
+        publierCreations(List.of(EquipeCreee.from(savedEquipe)));
+        log.debug("Équipe créée avec succès - ID: {}, Acronyme: {}",
                 savedEquipe.getId(),
                 savedEquipe.getAcronym());
 
         return savedEquipe;
     }
 
+    /**
+     * Crée un lot d'équipes (avec leurs joueurs) en une seule transaction.
+     *
+     * Les acronymes sont vérifiés en une seule requête et les INSERT sont
+     * regroupés en batch JDBC. Une équipe dont l'acronyme existe déjà (en base
+     * ou plus haut dans le même lot) est signalée en conflit sans bloquer les autres.
+     * Les entités insérées ne sont pas copiées dans le cache de second niveau
+     * (CacheMode.IGNORE) : un import d'un million de joueurs en évincerait
+     * aussitôt la quasi-totalité.
+     *
+     * @param requests équipes à créer
+     * @return résultat par équipe, dans l'ordre de la requête
+     */
+    @Transactional
+    public BulkCreateEquipeResponse createEquipes(List<CreateEquipeRequest> requests) {
+        log.info("Création en masse de {} équipes", requests.size());
+        ignorerCacheDeSecondNiveau();
+
+        Set<String> acronymes = new HashSet<>();
+        requests.forEach(request -> acronymes.add(request.getAcronym()));
+        Set<String> pris = new HashSet<>(equipeRepository.findExistingAcronyms(acronymes));
+
+        List<BulkCreateEquipeResponse.Result> results = new ArrayList<>(requests.size());
+        List<Equipe> lot = new ArrayList<>(BULK_FLUSH_SIZE);
+        List<BulkCreateEquipeResponse.Result> lotResults = new ArrayList<>(BULK_FLUSH_SIZE);
+        // Index en mémoire : valeurs copiées, les entités sont détachées à chaque lot
+        List<EquipeCreee> creees = new ArrayList<>();
+        int created = 0;
+
+        for (int i = 0; i < requests.size(); i++) {
+            CreateEquipeRequest request = requests.get(i);
+
+            // add() renvoie false si l'acronyme est déjà pris
+            if (!pris.add(request.getAcronym())) {
+                results.add(BulkCreateEquipeResponse.Result.builder()
+                        .index(i)
+                        .acronym(request.getAcronym())
+                        .status(BulkCreateEquipeResponse.Status.CONFLICT)
+                        .message("Une équipe avec l'acronyme " + request.getAcronym() + " existe déjà")
+                        .build());
+                continue;
+            }
+
+            Equipe equipe = toEquipe(request);
+            entityManager.persist(equipe);
+            BulkCreateEquipeResponse.Result result = BulkCreateEquipeResponse.Result.builder()
+                    .index(i)
+                    .acronym(request.getAcronym())
+                    .status(BulkCreateEquipeResponse.Status.CREATED)
+                    .build();
+            results.add(result);
+            lot.add(equipe);
+            lotResults.add(result);
+            creees.add(EquipeCreee.from(equipe));
+            created++;
+
+            if (lot.size() == BULK_FLUSH_SIZE) {
+                flushLot(lot, lotResults);
+            }
+        }
+        flushLot(lot, lotResults);
+        if (created > 0) {
+            signalerToutesEquipesModifiees();
+            publierCreations(creees);
+        }
+        meterRegistry.counter(BULK_ITEMS, "outcome", "created").increment(created);
+        meterRegistry.counter(BULK_ITEMS, "outcome", "conflict").increment(requests.size() - created);
+
+        log.info("Création en masse terminée - {} créées, {} en conflit",
+                created, requests.size() - created);
+
+        return BulkCreateEquipeResponse.builder()
+                .created(created)
+                .conflicts(requests.size() - created)
+                .results(results)
+                .build();
+    }
+
     /**
      * Transfère un joueur d'une équipe à une autre.
      *
+     * Le coût ne dépend pas de la taille des effectifs : le joueur et les deux
+     * équipes sont lus par ID (depuis le cache de second niveau s'ils y sont),
+     * puis un UPDATE de la clé étrangère et l'INSERT du journal des transferts,
+     * sans initialiser les listes de joueurs. Le joueur étant modifié comme
+     * entité, seules son entrée et celles des effectifs des deux équipes sont
+     * invalidées dans le cache de second niveau.
+     *
+     * L'UPDATE est conditionné par la version du joueur : si un transfert
+     * concurrent du même joueur a été validé entre-temps, la transaction est
+     * rejouée (au plus TRANSFER_MAX_ATTEMPTS fois) afin que le message
+     * reflète l'équipe réellement quittée.
+     *
      * @param request données du transfert
      * @return réponse avec message style Fabrizio Romano
      * @throws ResourceNotFoundException si le joueur ou l'équipe n'existe pas
+     * @throws TransferConflictException si le conflit persiste après toutes les tentatives
      */
-    @Transactional
+    @SuccessOutcome("transferred")
     public TransferJoueurResponse transferJoueur(TransferJoueurRequest request) {
-        log.info("Transfert du joueur ID: {} vers l'équipe ID: {}",
+        log.debug("Transfert du joueur ID: {} vers l'équipe ID: {}",
                 request.getJoueurId(),
                 request.getNouvelleEquipeId());
 
-        // Récupération du joueur
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> doTransferJoueur(request));
+            } catch (OptimisticLockingFailureException ex) {
+                meterRegistry.counter(TRANSFER_CONFLICTS).increment();
+                if (attempt >= TRANSFER_MAX_ATTEMPTS) {
+                    log.warn("Transfert du joueur ID: {} abandonné après {} tentatives",
+                            request.getJoueurId(), attempt);
+                    throw new TransferConflictException(
+                            "Le joueur " + request.getJoueurId()
+                                    + " est en cours de transfert, réessayez plus tard"
+                    );
+                }
+                log.debug("Conflit sur le transfert du joueur ID: {}, tentative {}",
+                        request.getJoueurId(), attempt);
+                backoff(attempt);
+            }
+        }
+    }
+
+    /**
+     * Applique un lot de transferts dans une seule transaction.
+     *
+     * Joueurs et équipes sont résolus en deux requêtes IN (les équipes déjà
+     * dans le cache de second niveau n'y figurent pas) ; les joueurs sont
+     * verrouillés dans l'ordre de leurs IDs (pas d'interblocage entre lots
+     * concurrents) et les changements d'équipe partent en UPDATE batch à la fin du lot.
+     * Les transferts sont appliqués dans l'ordre de la requête : un joueur
+     * déplacé deux fois quitte, au second transfert, l'équipe du premier.
+     * Chaque transfert appliqué est ajouté au journal (INSERT en batch au commit).
+     *
+     * @param requests transferts à appliquer
+     * @param mode ALL_OR_NOTHING (tout est annulé au premier échec) ou PER_ITEM
+     * @return une réponse par transfert, dans l'ordre de la requête
+     * @throws ResourceNotFoundException en mode ALL_OR_NOTHING si un joueur ou une équipe n'existe pas
+     */
+    @Transactional
+    public List<TransferJoueurResponse> transferJoueurs(List<TransferJoueurRequest> requests,
+                                                        BatchTransferRequest.Mode mode) {
+        log.info("Lot de {} transferts (mode {})", requests.size(), mode);
+
+        // Requête 1 : joueurs verrouillés dans l'ordre des IDs
+        Set<Long> joueurIds = new HashSet<>();
+        requests.forEach(request -> joueurIds.add(request.getJoueurId()));
+        Map<Long, Joueur> joueurs = new HashMap<>();
+        joueurRepository.findAllForUpdate(joueurIds).forEach(joueur -> joueurs.put(joueur.getId(), joueur));
+
+        // Requête 2 : équipes de destination et équipes actuelles (sans leurs effectifs),
+        // sauf celles déjà dans le cache de second niveau
+        Set<Long> equipeIds = new HashSet<>();
+        requests.forEach(request -> equipeIds.add(request.getNouvelleEquipeId()));
+        joueurs.values().forEach(joueur -> {
+            if (joueur.getEquipe() != null) {
+                equipeIds.add(joueur.getEquipe().getId());
+            }
+        });
+        Map<Long, Equipe> equipes = new HashMap<>();
+        for (Equipe equipe : entityManager.unwrap(Session.class)
+                .byMultipleIds(Equipe.class)
+                .with(CacheMode.NORMAL)
+                .multiLoad(new ArrayList<>(equipeIds))) {
+            if (equipe != null) {
+                equipes.put(equipe.getId(), equipe);
+            }
+        }
+
+        List<TransferJoueurResponse> responses = new ArrayList<>(requests.size());
+        Set<Long> equipesModifiees = new HashSet<>();
+        List<Mouvement> mouvements = new ArrayList<>();
+        for (TransferJoueurRequest request : requests) {
+            Joueur joueur = joueurs.get(request.getJoueurId());
+            Equipe nouvelleEquipe = equipes.get(request.getNouvelleEquipeId());
+
+            if (joueur == null || nouvelleEquipe == null) {
+                ResourceNotFoundException ex = joueur == null
+                        ? new ResourceNotFoundException("Joueur non trouvé avec l'ID: " + request.getJoueurId())
+                        : new ResourceNotFoundException("Équipe non trouvée avec l'ID: " + request.getNouvelleEquipeId());
+                if (mode == BatchTransferRequest.Mode.ALL_OR_NOTHING) {
+                    throw ex;
+                }
+                responses.add(TransferJoueurResponse.rejected(ex.getMessage()));
+                continue;
+            }
+
+            String ancienneEquipeName = joueur.getEquipe() != null
+                    ? equipes.get(joueur.getEquipe().getId()).getName()
+                    : "Free Agent";
+
+            if (joueur.getEquipe() != null) {
+                equipesModifiees.add(joueur.getEquipe().getId());
+            }
+            equipesModifiees.add(nouvelleEquipe.getId());
+
+            journaliser(joueur.getId(), joueur.getName(),
+                    joueur.getEquipe() != null ? joueur.getEquipe().getId() : null,
+                    joueur.getEquipe() != null ? equipes.get(joueur.getEquipe().getId()).getName() : null,
+                    nouvelleEquipe.getId(), nouvelleEquipe.getName());
+
+            mouvements.add(new Mouvement(joueur.getId(), joueur.getPosition(),
+                    joueur.getEquipe() != null ? joueur.getEquipe().getId() : null, nouvelleEquipe.getId(),
+                    joueur.getVersion()));
+
+            // Seul le côté propriétaire est modifié : l'effectif des équipes n'est pas chargé
+            joueur.setEquipe(nouvelleEquipe);
+
+            responses.add(TransferJoueurResponse.createFabrizioStyle(
+                    joueur.getName(),
+                    joueur.getPosition(),
+                    ancienneEquipeName,
+                    nouvelleEquipe.getName()
+            ));
+        }
+
+        if (!equipesModifiees.isEmpty()) {
+            // Les versions des joueurs sont incrémentées au flush (mêmes UPDATE batch qu'au commit)
+            entityManager.flush();
+            mouvements.replaceAll(mouvement -> mouvement.avecVersion(joueurs.get(mouvement.joueurId()).getVersion()));
+            signalerEquipesModifiees(equipesModifiees);
+            publierTransferts(mouvements);
+        }
+
+        log.info("Lot de transferts appliqué - {} transferts", responses.size());
+
+        return responses;
+    }
+
+    /**
+     * Nombre de conflits de version rencontrés sur les transferts depuis le démarrage.
+     */
+    public long getTransferConflictCount() {
+        return (long) meterRegistry.counter(TRANSFER_CONFLICTS).count();
+    }
+
+    /**
+     * Une tentative de transfert, exécutée dans sa propre transaction.
+     */
+    private TransferJoueurResponse doTransferJoueur(TransferJoueurRequest request) {
+        // Joueur et équipe de destination, servis par le cache de second niveau s'ils y sont
         Joueur joueur = joueurRepository.findById(request.getJoueurId())
                 .orElseThrow(() -> new ResourceNotFoundException(
-                        "Joueur non trouvé avec l'ID: " + request.getJoueurId()
-                ));
-
-        // Récupération de la nouvelle équipe
+                        "Joueur non trouvé avec l'ID: " + request.getJoueurId()));
         Equipe nouvelleEquipe = equipeRepository.findById(request.getNouvelleEquipeId())
                 .orElseThrow(() -> new ResourceNotFoundException(
-                        "Équipe non trouvée avec l'ID: " + request.getNouvelleEquipeId()
-                ));
+                        "Équipe non trouvée avec l'ID: " + request.getNouvelleEquipeId()));
 
-        // Sauvegarde de l'ancienne équipe pour le message
-        String ancienneEquipeName = joueur.getEquipe() != null
-                ? joueur.getEquipe().getName()
-                : "Free Agent";
+        // Sauvegarde de l'ancienne équipe (proxy initialisé depuis le cache) pour le message
+        Equipe ancienneEquipe = joueur.getEquipe();
+        Long ancienneEquipeId = ancienneEquipe != null ? ancienneEquipe.getId() : null;
+        String ancienneEquipeName = ancienneEquipe != null ? ancienneEquipe.getName() : null;
 
-        // Retirer le joueur de l'ancienne équipe si elle existe
-        if (joueur.getEquipe() != null) {
-            joueur.getEquipe().removeJoueur(joueur);
+        // Seul le côté propriétaire est modifié : l'effectif des équipes n'est pas chargé.
+        // Le flush envoie l'UPDATE conditionné par la version (conflit concurrent :
+        // ObjectOptimisticLockingFailureException, la transaction est rejouée).
+        joueur.setEquipe(nouvelleEquipe);
+        if (nouvelleEquipe.getId().equals(ancienneEquipeId)) {
+            // Aucun champ modifié : la version est tout de même incrémentée au commit,
+            // un transfert confirmé correspond toujours à une nouvelle version du joueur
+            entityManager.lock(joueur, LockModeType.OPTIMISTIC_FORCE_INCREMENT);
         }
+        joueurRepository.flush();
 
-        // Ajouter le joueur à la nouvelle équipe
-        nouvelleEquipe.addJoueur(joueur);
+        // Journal : INSERT envoyé au commit, dans la même transaction
+        journaliser(joueur.getId(), joueur.getName(),
+                ancienneEquipeId, ancienneEquipeName,
+                nouvelleEquipe.getId(), nouvelleEquipe.getName());
 
-        // Sauvegarder les changements
-        equipeRepository.save(nouvelleEquipe);
+        // Seules les pages contenant l'une des deux équipes sont périmées
+        Set<Long> equipesModifiees = new HashSet<>();
+        equipesModifiees.add(nouvelleEquipe.getId());
+        if (ancienneEquipeId != null) {
+            equipesModifiees.add(ancienneEquipeId);
+        }
+        signalerEquipesModifiees(equipesModifiees);
+        publierTransferts(List.of(new Mouvement(joueur.getId(), joueur.getPosition(),
+                ancienneEquipeId, nouvelleEquipe.getId(), joueur.getVersion())));
 
-        log.info("✅ Transfert confirmé: {} de {} vers {}",
-                joueur.getName(),
-                ancienneEquipeName,
-                nouvelleEquipe.getName());
+        String ancienneEquipeMessage = ancienneEquipeName != null ? ancienneEquipeName : "Free Agent";
+        if (log.isDebugEnabled()) {
+            log.debug("Transfert confirmé: {} de {} vers {}",
+                    joueur.getName(),
+                    ancienneEquipeMessage,
+                    nouvelleEquipe.getName());
+        }
 
         // Génération du message style Fabrizio Romano
         return TransferJoueurResponse.createFabrizioStyle(
                 joueur.getName(),
                 joueur.getPosition(),
-                ancienneEquipeName,
+                ancienneEquipeMessage,
                 nouvelleEquipe.getName()
         );
     }
-}
\ No newline at end of file
+
+    /**
+     * Ajoute le transfert au journal (transfer_history) dans la transaction courante.
+     * L'ID vient d'une séquence par blocs : l'INSERT part au commit, en batch
+     * JDBC avec les autres transferts d'un lot.
+     */
+    private void journaliser(Long joueurId, String joueurName,
+                             Long ancienneEquipeId, String ancienneEquipeName,
+                             Long nouvelleEquipeId, String nouvelleEquipeName) {
+        entityManager.persist(TransferHistory.builder()
+                .joueurId(joueurId)
+                .joueurName(joueurName)
+                .ancienneEquipeId(ancienneEquipeId)
+                .ancienneEquipeName(ancienneEquipeName)
+                .nouvelleEquipeId(nouvelleEquipeId)
+                .nouvelleEquipeName(nouvelleEquipeName)
+                .transferredAt(LocalDateTime.now())
+                .build());
+    }
+
+    /**
+     * Remplit les joueurs des équipes en projection, lus en une requête.
+     */
+    private void ajouterJoueurs(List<EquipeView> equipes) {
+        if (equipes.isEmpty()) {
+            return;
+        }
+        Map<Long, EquipeView> parId = new HashMap<>();
+        for (EquipeView equipe : equipes) {
+            parId.put(equipe.getId(), equipe);
+        }
+        for (JoueurRow joueur : joueurRepository.findRowsByEquipeIdIn(parId.keySet())) {
+            parId.get(joueur.equipeId()).getJoueurs()
+                    .add(new JoueurView(joueur.id(), joueur.name(), joueur.position()));
+        }
+    }
+
+    /**
+     * Envoie les INSERT du lot en cours puis vide le contexte de persistance.
+     */
+    private void flushLot(List<Equipe> lot, List<BulkCreateEquipeResponse.Result> lotResults) {
+        entityManager.flush();
+        for (int i = 0; i < lot.size(); i++) {
+            lotResults.get(i).setId(lot.get(i).getId());
+        }
+        entityManager.clear();
+        lot.clear();
+        lotResults.clear();
+    }
+
+    /**
+     * Construit l'entité équipe (et ses joueurs) à partir de la requête.
+     */
+    private Equipe toEquipe(CreateEquipeRequest request) {
+        Equipe equipe = Equipe.builder()
+                .name(request.getName())
+                .acronym(request.getAcronym())
+                .budget(request.getBudget())
+                .build();
+
+        // Ajout des joueurs si présents
+        if (request.getJoueurs() != null && !request.getJoueurs().isEmpty()) {
+            log.debug("Ajout de {} joueurs à l'équipe", request.getJoueurs().size());
+
+            request.getJoueurs().forEach(joueurRequest -> {
+                Joueur joueur = Joueur.builder()
+                        .name(joueurRequest.getName())
+                        .position(joueurRequest.getPosition())
+                        .build();
+                equipe.addJoueur(joueur);
+            });
+        }
+
+        return equipe;
+    }
+
+    /**
+     * Attente aléatoire croissante avant de rejouer un transfert en conflit,
+     * pour désynchroniser les transferts concurrents.
+     */
+    private void backoff(int attempt) {
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(TRANSFER_BACKOFF_MS * attempt + 1));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new TransferConflictException("Transfert interrompu");
+        }
+    }
+
+    /**
+     * Après commit : invalide toutes les pages en cache puis change de version.
+     */
+    private void signalerToutesEquipesModifiees() {
+        afterCommit(() -> {
+            equipePageCache.invalidateAll();
+            equipeDataVersion.increment();
+        });
+    }
+
+    /**
+     * Après commit : invalide les pages contenant ces équipes puis change de version.
+     * L'ordre compte : une fois la nouvelle version visible, aucune page
+     * périmée ne doit plus pouvoir être servie sous son ETag.
+     */
+    private void signalerEquipesModifiees(Set<Long> equipeIds) {
+        afterCommit(() -> {
+            equipePageCache.invalidateEquipes(equipeIds);
+            equipeDataVersion.increment();
+        });
+    }
+
+    /**
+     * Équipe créée, copiée (IDs attribués par la séquence) pour les structures en mémoire.
+     */
+    private record EquipeCreee(long id, String name, String acronym, BigDecimal budget,
+                               List<JoueurSearchRow> joueurs) {
+
+        static EquipeCreee from(Equipe equipe) {
+            List<JoueurSearchRow> joueurs = new ArrayList<>(equipe.getJoueurs().size());
+            for (Joueur joueur : equipe.getJoueurs()) {
+                joueurs.add(new JoueurSearchRow(joueur.getId(), joueur.getName(), joueur.getPosition(),
+                        equipe.getId(), joueur.getVersion()));
+            }
+            return new EquipeCreee(equipe.getId(), equipe.getName(), equipe.getAcronym(), equipe.getBudget(), joueurs);
+        }
+    }
+
+    /**
+     * Transfert appliqué : joueur, poste, équipe quittée (null si libre) et rejointe,
+     * version du joueur écrite par le commit.
+     */
+    private record Mouvement(long joueurId, String position, Long ancienneEquipeId, long nouvelleEquipeId,
+                             long version) {
+
+        Mouvement avecVersion(long versionEcrite) {
+            return new Mouvement(joueurId, position, ancienneEquipeId, nouvelleEquipeId, versionEcrite);
+        }
+    }
+
+    private static EquipeAlreadyExistsException equipeDejaExistante(String acronym) {
+        log.error("L'équipe avec l'acronyme {} existe déjà", acronym);
+        return new EquipeAlreadyExistsException("Une équipe avec l'acronyme " + acronym + " existe déjà");
+    }
+
+    /**
+     * Vérifie que la violation porte sur la contrainte d'unicité de l'acronyme
+     * (et non sur une autre contrainte, qui reste une erreur).
+     */
+    private static boolean violeUniciteAcronyme(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                String contrainte = violation.getConstraintName();
+                return contrainte != null && contrainte.toLowerCase(Locale.ROOT).contains(Equipe.UK_ACRONYM);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Après commit : ajoute les équipes créées à l'index de recherche, à l'index des
+     * acronymes, aux statistiques et au classement des budgets.
+     */
+    private void publierCreations(List<EquipeCreee> equipes) {
+        afterCommit(() -> {
+            for (EquipeCreee equipe : equipes) {
+                joueurSearchIndex.addEquipe(equipe.id(), equipe.name());
+                List<String> positions = new ArrayList<>(equipe.joueurs().size());
+                for (JoueurSearchRow joueur : equipe.joueurs()) {
+                    joueurSearchIndex.add(joueur.id(), joueur.name(), joueur.position(), joueur.equipeId(),
+                            joueur.version());
+                    positions.add(joueur.position());
+                }
+                equipeStatsSummary.addEquipe(equipe.id(), equipe.name(), equipe.acronym(), equipe.budget(), positions);
+                budgetLeaderboard.put(equipe.id(), equipe.name(), equipe.acronym(), equipe.budget());
+                equipeAcronymIndex.add(equipe.acronym(), equipe.id());
+            }
+        });
+    }
+
+    /**
+     * Après commit : reporte les transferts dans l'index de recherche et les statistiques.
+     */
+    private void publierTransferts(List<Mouvement> mouvements) {
+        afterCommit(() -> {
+            for (Mouvement mouvement : mouvements) {
+                joueurSearchIndex.move(mouvement.joueurId(), mouvement.nouvelleEquipeId(), mouvement.version());
+                equipeStatsSummary.transfer(mouvement.ancienneEquipeId(), mouvement.nouvelleEquipeId(),
+                        mouvement.position());
+            }
+        });
+    }
+
+    /**
+     * La session n'écrit plus dans le cache de second niveau jusqu'à la fin de la
+     * transaction en cours. Les entrées READ_WRITE des insertions sont écrites à la
+     * fin de la transaction : le mode précédent n'est rétabli qu'après.
+     */
+    private void ignorerCacheDeSecondNiveau() {
+        Session session = entityManager.unwrap(Session.class);
+        CacheMode cacheMode = session.getCacheMode();
+        session.setCacheMode(CacheMode.IGNORE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (session.isOpen()) {
+                    session.setCacheMode(cacheMode);
+                }
+            }
+        });
+    }
+
+    /**
+     * Exécute l'action après le commit de la transaction en cours,
+     * ou immédiatement s'il n'y a pas de transaction.
+     */
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.ogcnice.footballteam.service;
+
+import com.ogcnice.footballteam.dto.EquipeStatsResponse;
+import com.ogcnice.footballteam.dto.LeaderboardEntry;
+import com.ogcnice.footballteam.dto.LeagueStatsResponse;
+import com.ogcnice.footballteam.exception.ResourceNotFoundException;
+import com.ogcnice.footballteam.stats.BudgetLeaderboard;
+import com.ogcnice.footballteam.stats.EquipeStatsSummary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Statistiques et classement des budgets, servis depuis la mémoire sans accès à la base.
+ */
+@Service
+@RequiredArgsConstructor
+public class EquipeStatsService {
+
+    /**
+     * Nombre maximal d'équipes renvoyées par le classement.
+     */
+    private static final int MAX_LEADERBOARD_SIZE = 100;
+
+    private final EquipeStatsSummary equipeStatsSummary;
+    private final BudgetLeaderboard budgetLeaderboard;
+
+    /**
+     * Totaux de la ligue : équipes, joueurs, budget et joueurs par poste.
+     */
+    public LeagueStatsResponse getLeagueStats() {
+        return equipeStatsSummary.league();
+    }
+
+    /**
+     * Statistiques d'une équipe : effectif, joueurs par poste et rang du budget.
+     *
+     * @throws ResourceNotFoundException si l'équipe n'existe pas
+     */
+    public EquipeStatsResponse getEquipeStats(Long id) {
+        EquipeStatsResponse stats = equipeStatsSummary.equipe(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Équipe non trouvée avec l'ID: " + id));
+        stats.setBudgetRank(budgetLeaderboard.budgetRank(stats.getBudget()));
+        return stats;
+    }
+
+    /**
+     * Les n équipes au plus gros budget.
+     */
+    public List<LeaderboardEntry> getLeaderboard(int n) {
+        return budgetLeaderboard.top(Math.max(1, Math.min(n, MAX_LEADERBOARD_SIZE)));
+    }
+
+    /**
+     * Position d'une équipe dans le classement des budgets.
+     *
+     * @throws ResourceNotFoundException si l'équipe n'existe pas
+     */
+    public LeaderboardEntry getLeaderboardRank(Long id) {
+        return budgetLeaderboard.rank(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Équipe non trouvée avec l'ID: " + id));
+    }
+}
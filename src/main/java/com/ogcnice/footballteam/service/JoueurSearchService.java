@@ -0,0 +1,37 @@
+package com.ogcnice.footballteam.service;
+
+import com.ogcnice.footballteam.dto.JoueurSearchResult;
+import com.ogcnice.footballteam.search.JoueurSearchIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Recherche des joueurs par nom, servie par l'index en mémoire sans accès à la base.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class JoueurSearchService {
+
+    private static final int MAX_RESULTS = 50;
+
+    private final JoueurSearchIndex joueurSearchIndex;
+
+    /**
+     * Joueurs dont chaque terme de la requête commence un mot du nom (casse et accents ignorés).
+     *
+     * @param query termes recherchés ; une requête vide ne renvoie rien
+     * @param position position exacte, ou null pour toutes
+     * @param limit nombre maximal de résultats (borné entre 1 et 50)
+     */
+    public List<JoueurSearchResult> searchJoueurs(String query, String position, int limit) {
+        limit = Math.max(1, Math.min(limit, MAX_RESULTS));
+        if (log.isDebugEnabled()) {
+            log.debug("Recherche de joueurs - q: {}, position: {}, limite: {}", query, position, limit);
+        }
+        return joueurSearchIndex.search(query, position, limit);
+    }
+}
@@ -0,0 +1,146 @@
+package com.ogcnice.footballteam.service;
+
+import com.ogcnice.footballteam.dto.CursorPage;
+import com.ogcnice.footballteam.dto.TransferCursor;
+import com.ogcnice.footballteam.exception.InvalidCursorException;
+import com.ogcnice.footballteam.exception.ResourceNotFoundException;
+import com.ogcnice.footballteam.model.TransferHistory;
+import com.ogcnice.footballteam.repository.EquipeRepository;
+import com.ogcnice.footballteam.repository.JoueurRepository;
+import com.ogcnice.footballteam.repository.TransferHistoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Lecture du journal des transferts, du plus récent au plus ancien,
+ * avec pagination keyset sur (transferredAt, id) (curseur = date et id de la
+ * dernière entrée renvoyée).
+ *
+ * Les ids viennent d'une séquence allouée par blocs de 50 : ils ne suivent pas
+ * l'ordre des transferts d'une session ou d'une instance à l'autre, d'où le tri
+ * par date. Une page n'est stable que pour les transferts déjà validés : un
+ * transfert validé après la lecture d'une page, mais daté d'avant son curseur,
+ * apparaît dans les pages suivantes.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TransferHistoryService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    /**
+     * Ordre du journal : du plus récent au plus ancien, id décroissant à date égale.
+     */
+    private static final Comparator<TransferHistory> PLUS_RECENT_D_ABORD = Comparator
+            .comparing(TransferHistory::getTransferredAt)
+            .thenComparing(TransferHistory::getId)
+            .reversed();
+
+    private final TransferHistoryRepository transferHistoryRepository;
+    private final JoueurRepository joueurRepository;
+    private final EquipeRepository equipeRepository;
+
+    /**
+     * Transferts d'un joueur.
+     *
+     * @param joueurId ID du joueur
+     * @param cursor curseur de la page précédente, ou vide pour la première page
+     * @param size taille de la page (bornée entre 1 et 100)
+     * @throws ResourceNotFoundException si le joueur n'existe pas et n'a aucun transfert
+     * @throws InvalidCursorException si le curseur est mal formé
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<TransferHistory> getJoueurTransfers(Long joueurId, String cursor, int size) {
+        size = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        if (log.isDebugEnabled()) {
+            log.debug("Historique des transferts du joueur ID: {} - curseur: {}, taille: {}", joueurId, cursor, size);
+        }
+
+        TransferCursor position = decode(cursor);
+        List<TransferHistory> entries = transferHistoryRepository.findByJoueur(
+                joueurId, position.transferredAt(), position.id(), Limit.of(size + 1));
+
+        if (entries.isEmpty() && isFirstPage(cursor) && !joueurRepository.existsById(joueurId)) {
+            throw new ResourceNotFoundException("Joueur non trouvé avec l'ID: " + joueurId);
+        }
+        return toPage(entries, size);
+    }
+
+    /**
+     * Transferts d'une équipe, arrivées et départs confondus.
+     *
+     * Les deux sens sont lus chacun par leur index puis fusionnés par date :
+     * deux requêtes indexées plutôt qu'un OR qui ne peut en utiliser aucun.
+     * Un transfert vers l'équipe actuelle du joueur figure dans les deux listes :
+     * il n'est renvoyé qu'une fois.
+     *
+     * @param equipeId ID de l'équipe
+     * @param cursor curseur de la page précédente, ou vide pour la première page
+     * @param size taille de la page (bornée entre 1 et 100)
+     * @throws ResourceNotFoundException si l'équipe n'existe pas et n'a aucun transfert
+     * @throws InvalidCursorException si le curseur est mal formé
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<TransferHistory> getEquipeTransfers(Long equipeId, String cursor, int size) {
+        size = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        if (log.isDebugEnabled()) {
+            log.debug("Historique des transferts de l'équipe ID: {} - curseur: {}, taille: {}", equipeId, cursor, size);
+        }
+
+        TransferCursor position = decode(cursor);
+        List<TransferHistory> departs = transferHistoryRepository.findDepartures(
+                equipeId, position.transferredAt(), position.id(), Limit.of(size + 1));
+        List<TransferHistory> arrivees = transferHistoryRepository.findArrivals(
+                equipeId, position.transferredAt(), position.id(), Limit.of(size + 1));
+
+        // Fusion de deux listes triées du plus récent au plus ancien, sans doublon
+        List<TransferHistory> entries = new ArrayList<>(size + 1);
+        int d = 0;
+        int a = 0;
+        while (entries.size() <= size && (d < departs.size() || a < arrivees.size())) {
+            int ordre = d >= departs.size() ? 1
+                    : a >= arrivees.size() ? -1
+                    : PLUS_RECENT_D_ABORD.compare(departs.get(d), arrivees.get(a));
+            if (ordre < 0) {
+                entries.add(departs.get(d++));
+            } else if (ordre == 0) {
+                entries.add(departs.get(d++));
+                a++;
+            } else {
+                entries.add(arrivees.get(a++));
+            }
+        }
+
+        if (entries.isEmpty() && isFirstPage(cursor) && !equipeRepository.existsById(equipeId)) {
+            throw new ResourceNotFoundException("Équipe non trouvée avec l'ID: " + equipeId);
+        }
+        return toPage(entries, size);
+    }
+
+    private CursorPage<TransferHistory> toPage(List<TransferHistory> entries, int size) {
+        boolean hasNext = entries.size() > size;
+        List<TransferHistory> content = hasNext ? entries.subList(0, size) : entries;
+        return CursorPage.<TransferHistory>builder()
+                .content(content)
+                .size(content.size())
+                .nextCursor(hasNext ? TransferCursor.after(content.get(content.size() - 1)).encode() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    private boolean isFirstPage(String cursor) {
+        return cursor == null || cursor.isBlank();
+    }
+
+    private TransferCursor decode(String cursor) {
+        return isFirstPage(cursor) ? TransferCursor.FIRST : TransferCursor.decode(cursor);
+    }
+}
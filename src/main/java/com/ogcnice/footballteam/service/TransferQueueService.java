@@ -0,0 +1,252 @@
+package com.ogcnice.footballteam.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ogcnice.footballteam.dto.BatchTransferRequest;
+import com.ogcnice.footballteam.dto.TransferJoueurRequest;
+import com.ogcnice.footballteam.dto.TransferJoueurResponse;
+import com.ogcnice.footballteam.dto.TransferStatusResponse;
+import com.ogcnice.footballteam.exception.ResourceNotFoundException;
+import com.ogcnice.footballteam.exception.TransferQueueFullException;
+import com.ogcnice.footballteam.metrics.SuccessOutcome;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Transferts asynchrones : file bornée en mémoire et écrivain unique.
+ *
+ * - submit() met le transfert en file et rend la main immédiatement (202),
+ *   ou lève {@link TransferQueueFullException} si la file est pleine (429)
+ * - un thread unique vide la file par lots et applique chaque lot en une
+ *   transaction via {@link EquipeService#transferJoueurs}
+ * - dans un lot, plusieurs transferts du même joueur sont fusionnés :
+ *   seule la dernière destination est appliquée, les précédents passent SUPERSEDED
+ * - l'état de chaque transfert reste consultable pendant results-ttl
+ *
+ * La file est en mémoire : les transferts encore en attente à l'arrêt sont
+ * appliqués avant la fermeture, mais perdus en cas d'arrêt brutal.
+ */
+@Service
+@Slf4j
+public class TransferQueueService {
+
+    /**
+     * Nombre maximal d'états de transferts conservés.
+     */
+    private static final long RESULTS_MAX_SIZE = 100_000;
+
+    /**
+     * Attente maximale de l'écrivain avant de revérifier l'arrêt.
+     */
+    private static final long POLL_TIMEOUT_MS = 200;
+
+    private final EquipeService equipeService;
+    private final MeterRegistry meterRegistry;
+    private final int batchSize;
+    private final BlockingQueue<PendingTransfer> queue;
+    private final Cache<String, TransferStatusResponse> statuses;
+
+    private volatile boolean running;
+    private Thread writer;
+
+    public TransferQueueService(EquipeService equipeService,
+                                MeterRegistry meterRegistry,
+                                @Value("${equipes.transfer-queue.capacity:10000}") int capacity,
+                                @Value("${equipes.transfer-queue.batch-size:500}") int batchSize,
+                                @Value("${equipes.transfer-queue.results-ttl:1h}") Duration resultsTtl) {
+        this.equipeService = equipeService;
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.statuses = Caffeine.newBuilder()
+                .maximumSize(RESULTS_MAX_SIZE)
+                .expireAfterWrite(resultsTtl)
+                .build();
+        meterRegistry.gauge("equipes.transfer.queue.size", queue, BlockingQueue::size);
+    }
+
+    /**
+     * Transfert en file avec son ID.
+     */
+    record PendingTransfer(String id, TransferJoueurRequest request) {
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        writer = new Thread(this::drainLoop, "transfer-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(30));
+        if (!queue.isEmpty()) {
+            log.warn("Arrêt avec {} transferts asynchrones non appliqués", queue.size());
+        }
+    }
+
+    /**
+     * Met un transfert en file.
+     *
+     * @param request données du transfert (déjà validées)
+     * @return état PENDING avec l'ID du transfert
+     * @throws TransferQueueFullException si la file est pleine
+     */
+    @SuccessOutcome("queued")
+    public TransferStatusResponse submit(TransferJoueurRequest request) {
+        TransferStatusResponse status = TransferStatusResponse.builder()
+                .id(UUID.randomUUID().toString())
+                .status(TransferStatusResponse.Status.PENDING)
+                .joueurId(request.getJoueurId())
+                .nouvelleEquipeId(request.getNouvelleEquipeId())
+                .acceptedAt(LocalDateTime.now())
+                .build();
+
+        // L'état est visible avant que l'écrivain ne puisse le remplacer
+        statuses.put(status.getId(), status);
+        if (!queue.offer(new PendingTransfer(status.getId(), request))) {
+            statuses.invalidate(status.getId());
+            meterRegistry.counter("equipes.transfer.queue.rejected").increment();
+            throw new TransferQueueFullException(
+                    "File des transferts pleine (" + queue.size() + " en attente), réessayez plus tard");
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("Transfert {} en file - joueur ID: {} vers équipe ID: {}",
+                    status.getId(), request.getJoueurId(), request.getNouvelleEquipeId());
+        }
+        return status;
+    }
+
+    /**
+     * État d'un transfert asynchrone.
+     *
+     * @throws ResourceNotFoundException si l'ID est inconnu ou expiré
+     */
+    public TransferStatusResponse getStatus(String id) {
+        TransferStatusResponse status = statuses.getIfPresent(id);
+        if (status == null) {
+            throw new ResourceNotFoundException("Transfert non trouvé avec l'ID: " + id);
+        }
+        return status;
+    }
+
+    private void drainLoop() {
+        while (running || !queue.isEmpty()) {
+            try {
+                drainOnce(POLL_TIMEOUT_MS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException ex) {
+                log.error("Erreur inattendue de l'écrivain des transferts", ex);
+            }
+        }
+    }
+
+    /**
+     * Attend un transfert puis applique le lot disponible.
+     *
+     * @return nombre de transferts retirés de la file
+     */
+    int drainOnce(long timeoutMs) throws InterruptedException {
+        PendingTransfer first = queue.poll(timeoutMs, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return 0;
+        }
+        List<PendingTransfer> lot = new ArrayList<>(batchSize);
+        lot.add(first);
+        queue.drainTo(lot, batchSize - 1);
+        appliquer(lot);
+        return lot.size();
+    }
+
+    private void appliquer(List<PendingTransfer> lot) {
+        // Dernier transfert de chaque joueur dans le lot
+        Map<Long, PendingTransfer> derniers = new HashMap<>();
+        lot.forEach(pending -> derniers.put(pending.request().getJoueurId(), pending));
+
+        List<PendingTransfer> retenus = new ArrayList<>(derniers.size());
+        for (PendingTransfer pending : lot) {
+            PendingTransfer dernier = derniers.get(pending.request().getJoueurId());
+            if (dernier == pending) {
+                retenus.add(pending);
+            } else {
+                terminer(pending, TransferStatusResponse.Status.SUPERSEDED, null, dernier.id());
+            }
+        }
+        int fusionnes = lot.size() - retenus.size();
+        if (fusionnes > 0) {
+            meterRegistry.counter("equipes.transfer.queue.coalesced").increment(fusionnes);
+        }
+
+        List<TransferJoueurRequest> requests = retenus.stream()
+                .map(PendingTransfer::request)
+                .toList();
+        try {
+            List<TransferJoueurResponse> responses =
+                    equipeService.transferJoueurs(requests, BatchTransferRequest.Mode.PER_ITEM);
+            for (int i = 0; i < retenus.size(); i++) {
+                terminer(retenus.get(i), responses.get(i));
+            }
+        } catch (RuntimeException ex) {
+            // Lot en échec (ex: conflit avec un transfert synchrone) : transferts un par un
+            log.warn("Lot de {} transferts asynchrones en échec, application un par un: {}",
+                    retenus.size(), ex.getMessage());
+            for (PendingTransfer pending : retenus) {
+                try {
+                    terminer(pending, equipeService.transferJoueur(pending.request()));
+                } catch (RuntimeException itemEx) {
+                    terminer(pending, TransferJoueurResponse.rejected(itemEx.getMessage()));
+                }
+            }
+        }
+
+        log.info("Lot de transferts asynchrones appliqué - {} transferts, {} fusionnés",
+                retenus.size(), fusionnes);
+    }
+
+    private void terminer(PendingTransfer pending, TransferJoueurResponse response) {
+        terminer(pending,
+                Boolean.TRUE.equals(response.getConfirmed())
+                        ? TransferStatusResponse.Status.COMPLETED
+                        : TransferStatusResponse.Status.FAILED,
+                response,
+                null);
+    }
+
+    private void terminer(PendingTransfer pending, TransferStatusResponse.Status status,
+                          TransferJoueurResponse response, String supersededBy) {
+        TransferStatusResponse accepted = statuses.getIfPresent(pending.id());
+        TransferStatusResponse.TransferStatusResponseBuilder builder = accepted != null
+                ? accepted.toBuilder()
+                : TransferStatusResponse.builder()
+                        .id(pending.id())
+                        .joueurId(pending.request().getJoueurId())
+                        .nouvelleEquipeId(pending.request().getNouvelleEquipeId());
+        statuses.put(pending.id(), builder
+                .status(status)
+                .completedAt(LocalDateTime.now())
+                .supersededBy(supersededBy)
+                .result(response)
+                .build());
+    }
+}
@@ -0,0 +1,307 @@
+package com.ogcnice.footballteam.stats;
+
+import com.ogcnice.footballteam.dto.LeaderboardEntry;
+import com.ogcnice.footballteam.repository.EquipeSummaryRow;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Classement des équipes par budget décroissant (ID croissant en cas d'égalité),
+ * en mémoire, pour GET /api/equipes/leaderboard.
+ *
+ * Liste à enjambements indexable : chaque lien mémorise le nombre d'équipes qu'il
+ * saute, ce qui donne le rang d'une équipe en O(log n) (ConcurrentSkipListMap ne
+ * sait compter qu'en parcourant). Les N premiers sont lus en O(log n + N).
+ * Lectures concurrentes entre elles, écritures exclusives (verrou lecture/écriture).
+ *
+ * Tenu à jour par EquipeService après le commit des créations, reconstruit depuis
+ * la base avec les statistiques par {@link EquipeStatsReconciler} (au démarrage,
+ * puis périodiquement : une équipe supprimée en base quitte le classement).
+ */
+@Component
+public class BudgetLeaderboard {
+
+    private static final int MAX_NIVEAUX = 32;
+
+    private final ReadWriteLock verrou = new ReentrantReadWriteLock();
+
+    /**
+     * Incrémenté à chaque ajout : une reconstruction lue pendant un ajout n'est pas installée.
+     */
+    private final AtomicLong modifications = new AtomicLong();
+
+    private Classement classement = new Classement();
+
+    /**
+     * Ajoute une équipe, ou la reclasse si elle est déjà présente (budget modifié).
+     */
+    public void put(long id, String name, String acronym, BigDecimal budget) {
+        Equipe equipe = new Equipe(id, name, acronym, budget);
+        verrou.writeLock().lock();
+        try {
+            modifications.incrementAndGet();
+            classement.put(equipe);
+        } finally {
+            verrou.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Les n équipes au plus gros budget, avec leur rang.
+     */
+    public List<LeaderboardEntry> top(int n) {
+        verrou.readLock().lock();
+        try {
+            List<LeaderboardEntry> top = new ArrayList<>(Math.min(n, classement.taille));
+            Noeud x = classement.tete.suivants[0];
+            for (int rang = 1; x != null && rang <= n; rang++, x = x.suivants[0]) {
+                top.add(x.equipe.toEntry(rang));
+            }
+            return top;
+        } finally {
+            verrou.readLock().unlock();
+        }
+    }
+
+    /**
+     * Position d'une équipe dans le classement (1 = plus gros budget), vide si elle est inconnue.
+     */
+    public Optional<LeaderboardEntry> rank(long id) {
+        verrou.readLock().lock();
+        try {
+            Noeud noeud = classement.parId.get(id);
+            return noeud == null ? Optional.empty() : Optional.of(noeud.equipe.toEntry(classement.rang(noeud.equipe)));
+        } finally {
+            verrou.readLock().unlock();
+        }
+    }
+
+    /**
+     * Rang d'un budget, ex aequo au même rang : 1 + nombre d'équipes au budget strictement supérieur.
+     */
+    public int budgetRank(BigDecimal budget) {
+        verrou.readLock().lock();
+        try {
+            int superieurs = 0;
+            Noeud x = classement.tete;
+            for (int i = classement.niveaux - 1; i >= 0; i--) {
+                while (x.suivants[i] != null && x.suivants[i].equipe.budget().compareTo(budget) > 0) {
+                    superieurs += x.largeurs[i];
+                    x = x.suivants[i];
+                }
+            }
+            return superieurs + 1;
+        } finally {
+            verrou.readLock().unlock();
+        }
+    }
+
+    /**
+     * Nombre d'équipes classées.
+     */
+    public int size() {
+        verrou.readLock().lock();
+        try {
+            return classement.taille;
+        } finally {
+            verrou.readLock().unlock();
+        }
+    }
+
+    /**
+     * Compteur d'ajouts, à lire avant une reconstruction.
+     */
+    long modifications() {
+        return modifications.get();
+    }
+
+    /**
+     * Remplace le classement par une reconstruction depuis la base, si aucun ajout
+     * n'a eu lieu depuis modificationsAvant.
+     *
+     * @return false si la reconstruction n'a pas été installée
+     */
+    boolean replace(long modificationsAvant, List<EquipeSummaryRow> equipes) {
+        Classement nouveau = new Classement();
+        for (EquipeSummaryRow row : equipes) {
+            nouveau.put(new Equipe(row.id(), row.name(), row.acronym(), row.budget()));
+        }
+
+        verrou.writeLock().lock();
+        try {
+            if (modifications.get() != modificationsAvant) {
+                return false;
+            }
+            classement = nouveau;
+            return true;
+        } finally {
+            verrou.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Niveau d'un nouveau nœud : 1, puis une chance sur deux de monter d'un niveau.
+     */
+    private static int niveauAleatoire() {
+        int niveau = 1;
+        while (niveau < MAX_NIVEAUX && ThreadLocalRandom.current().nextBoolean()) {
+            niveau++;
+        }
+        return niveau;
+    }
+
+    /**
+     * Budget décroissant, puis ID croissant.
+     */
+    private static int compare(Equipe a, Equipe b) {
+        int parBudget = b.budget().compareTo(a.budget());
+        return parBudget != 0 ? parBudget : Long.compare(a.id(), b.id());
+    }
+
+    /**
+     * Liste à enjambements et index par ID, remplacés d'un bloc par une reconstruction.
+     */
+    private static final class Classement {
+
+        private final Noeud tete = new Noeud(null, MAX_NIVEAUX);
+        private final Map<Long, Noeud> parId = new HashMap<>();
+        private int niveaux = 1;
+        private int taille;
+
+        /**
+         * Ajoute l'équipe, ou la reclasse si son budget a changé.
+         */
+        private void put(Equipe equipe) {
+            Noeud existant = parId.get(equipe.id());
+            if (existant != null) {
+                if (existant.equipe.equals(equipe)) {
+                    return;
+                }
+                retirer(existant.equipe);
+            }
+            parId.put(equipe.id(), inserer(equipe));
+        }
+
+        /**
+         * Position de l'équipe (présente) : somme des largeurs des liens parcourus jusqu'à elle.
+         */
+        private int rang(Equipe equipe) {
+            int rang = 0;
+            Noeud x = tete;
+            for (int i = niveaux - 1; i >= 0; i--) {
+                while (x.suivants[i] != null && compare(x.suivants[i].equipe, equipe) <= 0) {
+                    rang += x.largeurs[i];
+                    x = x.suivants[i];
+                }
+            }
+            return rang;
+        }
+
+        /**
+         * Insère l'équipe ; les largeurs des liens enjambant la nouvelle position augmentent de 1.
+         */
+        private Noeud inserer(Equipe equipe) {
+            Noeud[] precedents = new Noeud[MAX_NIVEAUX];
+            int[] rangs = new int[MAX_NIVEAUX];
+            Noeud x = tete;
+            for (int i = niveaux - 1; i >= 0; i--) {
+                rangs[i] = i == niveaux - 1 ? 0 : rangs[i + 1];
+                while (x.suivants[i] != null && compare(x.suivants[i].equipe, equipe) < 0) {
+                    rangs[i] += x.largeurs[i];
+                    x = x.suivants[i];
+                }
+                precedents[i] = x;
+            }
+
+            int niveau = niveauAleatoire();
+            if (niveau > niveaux) {
+                for (int i = niveaux; i < niveau; i++) {
+                    rangs[i] = 0;
+                    precedents[i] = tete;
+                    tete.largeurs[i] = taille;
+                }
+                niveaux = niveau;
+            }
+
+            Noeud noeud = new Noeud(equipe, niveau);
+            for (int i = 0; i < niveau; i++) {
+                noeud.suivants[i] = precedents[i].suivants[i];
+                precedents[i].suivants[i] = noeud;
+                noeud.largeurs[i] = precedents[i].largeurs[i] - (rangs[0] - rangs[i]);
+                precedents[i].largeurs[i] = rangs[0] - rangs[i] + 1;
+            }
+            for (int i = niveau; i < niveaux; i++) {
+                precedents[i].largeurs[i]++;
+            }
+            taille++;
+            return noeud;
+        }
+
+        /**
+         * Retire l'équipe ; les liens qui l'enjambaient perdent 1 de largeur.
+         */
+        private void retirer(Equipe equipe) {
+            Noeud[] precedents = new Noeud[MAX_NIVEAUX];
+            Noeud x = tete;
+            for (int i = niveaux - 1; i >= 0; i--) {
+                while (x.suivants[i] != null && compare(x.suivants[i].equipe, equipe) < 0) {
+                    x = x.suivants[i];
+                }
+                precedents[i] = x;
+            }
+            Noeud noeud = x.suivants[0];
+            for (int i = 0; i < niveaux; i++) {
+                if (precedents[i].suivants[i] == noeud) {
+                    precedents[i].largeurs[i] += noeud.largeurs[i] - 1;
+                    precedents[i].suivants[i] = noeud.suivants[i];
+                } else {
+                    precedents[i].largeurs[i]--;
+                }
+            }
+            while (niveaux > 1 && tete.suivants[niveaux - 1] == null) {
+                niveaux--;
+            }
+            taille--;
+        }
+    }
+
+    private record Equipe(long id, String name, String acronym, BigDecimal budget) {
+
+        LeaderboardEntry toEntry(int rang) {
+            return LeaderboardEntry.builder()
+                    .rank(rang)
+                    .id(id)
+                    .name(name)
+                    .acronym(acronym)
+                    .budget(budget)
+                    .build();
+        }
+    }
+
+    /**
+     * Nœud de la liste : suivants[i] est le prochain nœud au niveau i,
+     * largeurs[i] le nombre d'équipes que ce lien fait avancer.
+     */
+    private static final class Noeud {
+
+        private final Equipe equipe;
+        private final Noeud[] suivants;
+        private final int[] largeurs;
+
+        private Noeud(Equipe equipe, int niveau) {
+            this.equipe = equipe;
+            this.suivants = new Noeud[niveau];
+            this.largeurs = new int[niveau];
+        }
+    }
+}
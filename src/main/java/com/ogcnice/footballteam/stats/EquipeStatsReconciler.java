@@ -0,0 +1,88 @@
+package com.ogcnice.footballteam.stats;
+
+import com.ogcnice.footballteam.repository.EquipeRepository;
+import com.ogcnice.footballteam.repository.EquipeSummaryRow;
+import com.ogcnice.footballteam.repository.JoueurRepository;
+import com.ogcnice.footballteam.repository.PositionCountRow;
+import com.ogcnice.footballteam.search.EquipeAcronymIndex;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Reconstruit {@link EquipeStatsSummary}, {@link BudgetLeaderboard} et {@link EquipeAcronymIndex}
+ * depuis la base : au démarrage, puis toutes les equipes.stats.reconcile-interval
+ * (défaut: 10 minutes).
+ *
+ * Deux requêtes : les équipes, et un GROUP BY équipe, poste sur les joueurs.
+ * Si un ajustement a lieu pendant la lecture, la reconstruction est relancée
+ * (au plus MAX_ATTEMPTS fois) plutôt qu'installée. Les équipes dont les compteurs
+ * en mémoire avaient dérivé sont comptées dans equipes.stats.drift.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EquipeStatsReconciler {
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final String DRIFT = "equipes.stats.drift";
+
+    private final EquipeStatsSummary summary;
+    private final BudgetLeaderboard leaderboard;
+    private final EquipeAcronymIndex acronymIndex;
+    private final EquipeRepository equipeRepository;
+    private final JoueurRepository joueurRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @PostConstruct
+    void load() {
+        reconstruire(false);
+    }
+
+    /**
+     * Relit les statistiques en base et remplace celles en mémoire.
+     *
+     * @return nombre d'équipes dont les compteurs ont été corrigés, -1 si la
+     *         reconstruction n'a pas pu être installée
+     */
+    @Scheduled(fixedDelayString = "${equipes.stats.reconcile-interval:10m}",
+            initialDelayString = "${equipes.stats.reconcile-interval:10m}")
+    public int reconcile() {
+        return reconstruire(true);
+    }
+
+    private int reconstruire(boolean compterDerive) {
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            long debut = System.nanoTime();
+            long modificationsAvant = summary.modifications();
+            long classementAvant = leaderboard.modifications();
+            long acronymesAvant = acronymIndex.modifications();
+            List<EquipeSummaryRow> equipes = transactionTemplate.execute(status -> equipeRepository.findAllSummaries());
+            List<PositionCountRow> counts = transactionTemplate.execute(status -> joueurRepository.countByEquipeAndPosition());
+
+            int derive = summary.replace(modificationsAvant, equipes, counts);
+            if (derive >= 0 && leaderboard.replace(classementAvant, equipes)
+                    && acronymIndex.replace(acronymesAvant, equipes)) {
+                if (compterDerive) {
+                    meterRegistry.counter(DRIFT).increment(derive);
+                    if (derive > 0) {
+                        log.warn("Statistiques en mémoire corrigées pour {} équipes", derive);
+                    }
+                }
+                log.info("Statistiques reconstruites - {} équipes en {} ms",
+                        equipes.size(), (System.nanoTime() - debut) / 1_000_000);
+                return compterDerive ? derive : 0;
+            }
+            log.debug("Statistiques modifiées pendant la reconstruction (tentative {})", attempt);
+        }
+        log.warn("Reconstruction des statistiques abandonnée après {} tentatives", MAX_ATTEMPTS);
+        return -1;
+    }
+}
@@ -0,0 +1,234 @@
+package com.ogcnice.footballteam.stats;
+
+import com.ogcnice.footballteam.dto.EquipeStatsResponse;
+import com.ogcnice.footballteam.dto.LeagueStatsResponse;
+import com.ogcnice.footballteam.repository.EquipeSummaryRow;
+import com.ogcnice.footballteam.repository.PositionCountRow;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Statistiques des équipes tenues à jour en mémoire : effectif et joueurs par poste
+ * de chaque équipe, totaux de la ligue.
+ *
+ * EquipeService l'ajuste après le commit de ses écritures (une création ajoute une
+ * équipe, un transfert retire un joueur d'un poste d'une équipe et l'ajoute à l'autre),
+ * sans GROUP BY sur la table joueur. {@link EquipeStatsReconciler} la reconstruit
+ * depuis la base au démarrage puis périodiquement, pour corriger une dérive.
+ */
+@Component
+public class EquipeStatsSummary {
+
+    private volatile Etat etat = new Etat();
+
+    /**
+     * Incrémenté à chaque ajustement : une reconstruction lue pendant un ajustement
+     * n'est pas installée (elle ne le contient peut-être pas).
+     */
+    private final AtomicLong modifications = new AtomicLong();
+
+    /**
+     * Ajustements concurrents entre eux (verrou partagé), exclusifs avec le
+     * remplacement de l'état par une reconstruction.
+     */
+    private final ReadWriteLock verrou = new ReentrantReadWriteLock();
+
+    /**
+     * Ajoute une équipe créée et ses joueurs. Sans effet si l'équipe est déjà connue.
+     *
+     * @param positions poste de chacun de ses joueurs
+     */
+    public void addEquipe(long id, String name, String acronym, BigDecimal budget, Collection<String> positions) {
+        verrou.readLock().lock();
+        try {
+            modifications.incrementAndGet();
+            Etat courant = etat;
+            Compteurs compteurs = new Compteurs(id, name, acronym, budget);
+            if (courant.equipes.putIfAbsent(id, compteurs) != null) {
+                return;
+            }
+            courant.totalBudget.accumulateAndGet(budget, BigDecimal::add);
+            for (String position : positions) {
+                courant.ajuster(compteurs, position, 1);
+            }
+        } finally {
+            verrou.readLock().unlock();
+        }
+    }
+
+    /**
+     * Déplace un joueur d'une équipe à l'autre : deux ajustements de compteur.
+     *
+     * @param ancienneEquipeId équipe quittée, null pour un joueur libre
+     */
+    public void transfer(Long ancienneEquipeId, long nouvelleEquipeId, String position) {
+        verrou.readLock().lock();
+        try {
+            modifications.incrementAndGet();
+            Etat courant = etat;
+            Compteurs ancienne = ancienneEquipeId != null ? courant.equipes.get(ancienneEquipeId) : null;
+            if (ancienne != null) {
+                courant.ajuster(ancienne, position, -1);
+            }
+            Compteurs nouvelle = courant.equipes.get(nouvelleEquipeId);
+            if (nouvelle != null) {
+                courant.ajuster(nouvelle, position, 1);
+            }
+        } finally {
+            verrou.readLock().unlock();
+        }
+    }
+
+    /**
+     * Statistiques d'une équipe, vide si elle est inconnue.
+     * Le rang du budget n'est pas renseigné : il est lu dans {@link BudgetLeaderboard}.
+     */
+    public Optional<EquipeStatsResponse> equipe(long id) {
+        Compteurs compteurs = etat.equipes.get(id);
+        return compteurs == null ? Optional.empty() : Optional.of(compteurs.toResponse());
+    }
+
+    /**
+     * Statistiques de toute la ligue.
+     */
+    public LeagueStatsResponse league() {
+        Etat courant = etat;
+        int equipes = courant.equipes.size();
+        long joueurs = courant.joueurs.sum();
+        Map<String, Long> positions = new TreeMap<>();
+        courant.positions.forEach((position, count) -> {
+            long n = count.sum();
+            if (n > 0) {
+                positions.put(position, n);
+            }
+        });
+        return LeagueStatsResponse.builder()
+                .equipes(equipes)
+                .joueurs(joueurs)
+                .totalBudget(courant.totalBudget.get())
+                .averageSquadSize(equipes == 0 ? 0.0 : (double) joueurs / equipes)
+                .positions(positions)
+                .build();
+    }
+
+    /**
+     * Compteur d'ajustements, à lire avant une reconstruction.
+     */
+    long modifications() {
+        return modifications.get();
+    }
+
+    /**
+     * Remplace l'état par une reconstruction depuis la base, si aucun ajustement
+     * n'a eu lieu depuis modificationsAvant.
+     *
+     * @return nombre d'équipes dont les compteurs différaient, ou -1 si la
+     *         reconstruction n'a pas été installée
+     */
+    int replace(long modificationsAvant, List<EquipeSummaryRow> equipes, List<PositionCountRow> counts) {
+        Etat nouveau = new Etat();
+        for (EquipeSummaryRow row : equipes) {
+            nouveau.equipes.put(row.id(), new Compteurs(row.id(), row.name(), row.acronym(), row.budget()));
+            nouveau.totalBudget.accumulateAndGet(row.budget(), BigDecimal::add);
+        }
+        for (PositionCountRow row : counts) {
+            Compteurs compteurs = nouveau.equipes.get(row.equipeId());
+            if (compteurs != null) {
+                nouveau.ajuster(compteurs, row.position(), row.count().intValue());
+            }
+        }
+
+        verrou.writeLock().lock();
+        try {
+            if (modifications.get() != modificationsAvant) {
+                return -1;
+            }
+            int derive = 0;
+            for (Compteurs compteurs : nouveau.equipes.values()) {
+                Compteurs ancien = etat.equipes.get(compteurs.id);
+                if (ancien == null || !ancien.memesCompteurs(compteurs)) {
+                    derive++;
+                }
+            }
+            derive += (int) etat.equipes.keySet().stream().filter(id -> !nouveau.equipes.containsKey(id)).count();
+            etat = nouveau;
+            return derive;
+        } finally {
+            verrou.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Compteurs de toutes les équipes et de la ligue, remplacés d'un bloc par une reconstruction.
+     */
+    private static final class Etat {
+
+        private final Map<Long, Compteurs> equipes = new ConcurrentHashMap<>();
+        private final Map<String, LongAdder> positions = new ConcurrentHashMap<>();
+        private final LongAdder joueurs = new LongAdder();
+        private final AtomicReference<BigDecimal> totalBudget = new AtomicReference<>(BigDecimal.ZERO);
+
+        private void ajuster(Compteurs compteurs, String position, int delta) {
+            compteurs.ajuster(position, delta);
+            positions.computeIfAbsent(position, p -> new LongAdder()).add(delta);
+            joueurs.add(delta);
+        }
+    }
+
+    /**
+     * Compteurs d'une équipe ; nom, acronyme et budget ne changent pas.
+     */
+    private static final class Compteurs {
+
+        private final long id;
+        private final String name;
+        private final String acronym;
+        private final BigDecimal budget;
+        private final Map<String, Integer> positions = new HashMap<>();
+        private int squadSize;
+
+        private Compteurs(long id, String name, String acronym, BigDecimal budget) {
+            this.id = id;
+            this.name = name;
+            this.acronym = acronym;
+            this.budget = budget;
+        }
+
+        private synchronized void ajuster(String position, int delta) {
+            positions.merge(position, delta, (a, b) -> a + b == 0 ? null : a + b);
+            squadSize += delta;
+        }
+
+        private synchronized boolean memesCompteurs(Compteurs autre) {
+            Map<String, Integer> autresPositions;
+            synchronized (autre) {
+                autresPositions = new HashMap<>(autre.positions);
+            }
+            return positions.equals(autresPositions);
+        }
+
+        private synchronized EquipeStatsResponse toResponse() {
+            return EquipeStatsResponse.builder()
+                    .id(id)
+                    .name(name)
+                    .acronym(acronym)
+                    .budget(budget)
+                    .squadSize(squadSize)
+                    .positions(new TreeMap<>(positions))
+                    .build();
+        }
+    }
+}
@@ -1,21 +1,55 @@
 package com.ogcnice.footballteam.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ogcnice.footballteam.cache.EquipePageCache;
+import com.ogcnice.footballteam.dto.BatchTransferRequest;
+import com.ogcnice.footballteam.dto.BulkCreateEquipeRequest;
 import com.ogcnice.footballteam.dto.CreateEquipeRequest;
+import com.ogcnice.footballteam.dto.EquipeFilter;
+import com.ogcnice.footballteam.dto.EquipePageResponse;
+import com.ogcnice.footballteam.dto.TransferJoueurRequest;
+import com.ogcnice.footballteam.metrics.RequestQueryStatsFilter;
 import com.ogcnice.footballteam.model.Equipe;
+import com.ogcnice.footballteam.model.Joueur;
+import com.ogcnice.footballteam.model.TransferHistory;
 import com.ogcnice.footballteam.repository.EquipeRepository;
+import com.ogcnice.footballteam.repository.JoueurRepository;
+import com.ogcnice.footballteam.repository.TransferHistoryRepository;
+import com.ogcnice.footballteam.service.EquipeService;
+import com.ogcnice.footballteam.stats.EquipeStatsReconciler;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.fasterxml.jackson.databind.JsonNode;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -23,8 +57,13 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * Tests d'intégration pour l'API Equipe.
  * Teste l'ensemble de la stack (Controller -> Service -> Repository -> Database).
  */
-@SpringBootTest
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "equipes.query-stats.fail-fast=true"
+})
 @AutoConfigureMockMvc
+@AutoConfigureTestDatabase
+@AutoConfigureObservability
 class EquipeControllerIntegrationTest {
 
     @Autowired
@@ -36,10 +75,32 @@ class EquipeControllerIntegrationTest {
     @Autowired
     private EquipeRepository equipeRepository;
 
+    @Autowired
+    private JoueurRepository joueurRepository;
+
+    @Autowired
+    private TransferHistoryRepository transferHistoryRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private EquipePageCache equipePageCache;
+
+    @Autowired
+    private EquipeService equipeService;
+
+    @Autowired
+    private EquipeStatsReconciler equipeStatsReconciler;
+
     @BeforeEach
     void setUp() {
         // Nettoyage de la base avant chaque test
         equipeRepository.deleteAll();
+        // Les données de test sont insérées via le repository : le cache ne les voit pas
+        equipePageCache.invalidateAll();
+        // Les index en mémoire (acronymes, classement, statistiques) non plus
+        equipeStatsReconciler.reconcile();
     }
 
     @Test
@@ -95,7 +156,12 @@ class EquipeControllerIntegrationTest {
                 .andExpect(jsonPath("$.content", hasSize(10)))
                 .andExpect(jsonPath("$.totalElements").value(15))
                 .andExpect(jsonPath("$.totalPages").value(2))
-                .andExpect(jsonPath("$.number").value(0));
+                .andExpect(jsonPath("$.size").value(10))
+                .andExpect(jsonPath("$.number").value(0))
+                .andExpect(jsonPath("$.content[0].joueurs", hasSize(0)))
+                // Enveloppe stable : pas de structure interne de Page
+                .andExpect(jsonPath("$.pageable").doesNotExist())
+                .andExpect(jsonPath("$.sort").doesNotExist());
 
         // Page 1, size 10
         mockMvc.perform(get("/api/equipes?page=1&size=10"))
@@ -104,6 +170,35 @@ class EquipeControllerIntegrationTest {
                 .andExpect(jsonPath("$.number").value(1));
     }
 
+    @Test
+    void testGetAllEquipes_WithFilters() throws Exception {
+        // Arrange - budgets de 1 à 15 millions
+        for (int i = 1; i <= 15; i++) {
+            equipeRepository.save(Equipe.builder()
+                    .name((i % 2 == 0 ? "Olympique " : "Stade ") + i)
+                    .acronym("EQ" + i)
+                    .budget(new BigDecimal(i * 1000000))
+                    .build());
+        }
+
+        // Act & Assert - intervalle de budget inclusif, trié par budget décroissant
+        mockMvc.perform(get("/api/equipes?minBudget=5000000&maxBudget=9000000&sortBy=budget&sortDir=desc&size=3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(5))
+                .andExpect(jsonPath("$.content[*].acronym", contains("EQ9", "EQ8", "EQ7")));
+
+        // Préfixe du nom combiné à un budget minimal
+        mockMvc.perform(get("/api/equipes?namePrefix=Olympique&minBudget=10000000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(3))
+                .andExpect(jsonPath("$.content[*].acronym", contains("EQ10", "EQ12", "EQ14")));
+
+        // Les jokers SQL du préfixe sont pris littéralement
+        mockMvc.perform(get("/api/equipes?namePrefix=%25"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(0));
+    }
+
     @Test
     void testGetAllEquipes_WithSorting() throws Exception {
         // Arrange
@@ -134,6 +229,106 @@ class EquipeControllerIntegrationTest {
                 .andExpect(jsonPath("$.content[1].budget").value(30000000));
     }
 
+    @Test
+    void testGetAllEquipes_FixedStatementCount() throws Exception {
+        // Arrange - 30 équipes de 3 joueurs chacune
+        for (int i = 1; i <= 30; i++) {
+            Equipe equipe = Equipe.builder()
+                    .name("Equipe " + i)
+                    .acronym("EQ" + i)
+                    .budget(new BigDecimal(i * 1000000))
+                    .build();
+            for (int j = 1; j <= 3; j++) {
+                equipe.addJoueur(Joueur.builder()
+                        .name("Joueur " + i + "-" + j)
+                        .position("Milieu")
+                        .build());
+            }
+            equipeRepository.save(equipe);
+        }
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // Act & Assert - count + page + roster, quelle que soit la taille de la page
+        for (int size : new int[]{5, 20}) {
+            statistics.clear();
+
+            mockMvc.perform(get("/api/equipes?page=0&size=" + size))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content", hasSize(size)))
+                    .andExpect(jsonPath("$.content[0].joueurs", hasSize(3)))
+                    .andExpect(header().string(RequestQueryStatsFilter.STATEMENTS_HEADER, "3"))
+                    // Projections : aucune entité chargée
+                    .andExpect(header().string(RequestQueryStatsFilter.ENTITY_LOADS_HEADER, "0"))
+                    .andExpect(header().string(RequestQueryStatsFilter.COLLECTION_FETCHES_HEADER, "0"));
+
+            assertEquals(3, statistics.getPrepareStatementCount(),
+                    "Nombre de requêtes SQL inattendu pour une page de " + size);
+        }
+    }
+
+    @Test
+    void testGetEquipesByCursor_WalksAllPagesWithoutCount() throws Exception {
+        // Arrange - budgets en double pour vérifier le départage par ID
+        for (int i = 1; i <= 7; i++) {
+            Equipe equipe = Equipe.builder()
+                    .name("Equipe " + i)
+                    .acronym("EQ" + i)
+                    .budget(new BigDecimal((i % 3 + 1) * 1000000))
+                    .build();
+            equipe.addJoueur(Joueur.builder().name("Joueur " + i).position("Milieu").build());
+            equipeRepository.save(equipe);
+        }
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        List<String> acronyms = new ArrayList<>();
+        List<BigDecimal> budgets = new ArrayList<>();
+        String cursor = "";
+
+        // Act - parcours complet par pages de 3
+        for (int pageCount = 0; pageCount < 3; pageCount++) {
+            statistics.clear();
+
+            String body = mockMvc.perform(get("/api/equipes")
+                            .param("cursor", cursor)
+                            .param("size", "3")
+                            .param("sortBy", "budget")
+                            .param("sortDir", "desc"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.totalElements").doesNotExist())
+                    .andReturn().getResponse().getContentAsString();
+
+            // Page + joueurs en projections, sans count(*) ni entité chargée
+            assertEquals(2, statistics.getPrepareStatementCount());
+            assertEquals(0, statistics.getEntityLoadCount());
+
+            JsonNode page = objectMapper.readTree(body);
+            page.get("content").forEach(equipe -> {
+                assertEquals(1, equipe.get("joueurs").size());
+                acronyms.add(equipe.get("acronym").asText());
+                budgets.add(equipe.get("budget").decimalValue());
+            });
+            cursor = page.get("nextCursor").asText();
+            if (!page.get("hasNext").asBoolean()) {
+                break;
+            }
+        }
+
+        // Assert - chaque équipe une seule fois, budgets décroissants
+        assertEquals(7, acronyms.size());
+        assertEquals(7, acronyms.stream().distinct().count());
+        for (int i = 1; i < budgets.size(); i++) {
+            assertFalse(budgets.get(i).compareTo(budgets.get(i - 1)) > 0);
+        }
+    }
+
+    @Test
+    void testGetEquipesByCursor_InvalidCursor_BadRequest() throws Exception {
+        mockMvc.perform(get("/api/equipes?cursor=pas-un-curseur"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").exists());
+    }
+
     @Test
     void testCreateEquipe_Success() throws Exception {
         // Arrange
@@ -226,4 +421,1183 @@ class EquipeControllerIntegrationTest {
                 .andExpect(status().isConflict())
                 .andExpect(jsonPath("$.message").exists());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testGetEquipeByAcronym_FromIndex_DuplicateRejectedWithoutQuery() throws Exception {
+        // Arrange
+        CreateEquipeRequest request = CreateEquipeRequest.builder()
+                .name("OGC Nice")
+                .acronym("OGCN")
+                .budget(new BigDecimal("50000000"))
+                .joueurs(List.of(CreateEquipeRequest.CreateJoueurRequest.builder()
+                        .name("Kasper Schmeichel")
+                        .position("Gardien")
+                        .build()))
+                .build();
+        mockMvc.perform(post("/api/equipes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated());
+
+        // Act & Assert
+        mockMvc.perform(get("/api/equipes/by-acronym/OGCN"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("OGC Nice"))
+                .andExpect(jsonPath("$.joueurs", hasSize(1)))
+                .andExpect(jsonPath("$.joueurs[0].name").value("Kasper Schmeichel"));
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        mockMvc.perform(get("/api/equipes/by-acronym/ogcn"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(post("/api/equipes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message").value("Une équipe avec l'acronyme OGCN existe déjà"));
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testGetEquipeByAcronym_SecondLevelCache_InvalidatedByTransfers() throws Exception {
+        // Arrange - Nice et ses deux joueurs, Paris sans joueur, créés par l'API
+        mockMvc.perform(post("/api/equipes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(CreateEquipeRequest.builder()
+                                .name("OGC Nice")
+                                .acronym("OGCN")
+                                .budget(new BigDecimal("50000000"))
+                                .joueurs(List.of(
+                                        CreateEquipeRequest.CreateJoueurRequest.builder()
+                                                .name("Kasper Schmeichel")
+                                                .position("Gardien")
+                                                .build(),
+                                        CreateEquipeRequest.CreateJoueurRequest.builder()
+                                                .name("Dante")
+                                                .position("Défenseur")
+                                                .build()))
+                                .build())))
+                .andExpect(status().isCreated());
+        mockMvc.perform(post("/api/equipes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(CreateEquipeRequest.builder()
+                                .name("Paris Saint-Germain")
+                                .acronym("PSG")
+                                .budget(new BigDecimal("500000000"))
+                                .build())))
+                .andExpect(status().isCreated());
+        Long psgId = equipeRepository.findByAcronym("PSG").orElseThrow().getId();
+        Long schmeichelId = joueurRepository.findAll().stream()
+                .filter(joueur -> joueur.getName().equals("Kasper Schmeichel"))
+                .findFirst().orElseThrow().getId();
+        mockMvc.perform(get("/api/equipes/by-acronym/OGCN"))
+                .andExpect(status().isOk());
+
+        // Act & Assert - lecture servie par le cache : équipe, effectif et joueurs
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        mockMvc.perform(get("/api/equipes/by-acronym/OGCN"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.joueurs", hasSize(2)));
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertTrue(statistics.getSecondLevelCacheHitCount() >= 4,
+                "Succès du cache: " + statistics.getSecondLevelCacheHitCount());
+
+        // Un transfert invalide les effectifs en cache
+        mockMvc.perform(post("/api/equipes/transfer")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TransferJoueurRequest(schmeichelId, psgId))))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/equipes/by-acronym/OGCN"))
+                .andExpect(jsonPath("$.joueurs", hasSize(1)))
+                .andExpect(jsonPath("$.joueurs[0].name").value("Dante"));
+        mockMvc.perform(get("/api/equipes/by-acronym/PSG"))
+                .andExpect(jsonPath("$.joueurs", hasSize(1)))
+                .andExpect(jsonPath("$.joueurs[0].name").value("Kasper Schmeichel"));
+
+        // Un lot de transferts aussi
+        mockMvc.perform(post("/api/equipes/transfers/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(BatchTransferRequest.builder()
+                                .transfers(List.of(new TransferJoueurRequest(schmeichelId,
+                                        equipeRepository.findByAcronym("OGCN").orElseThrow().getId())))
+                                .build())))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/equipes/by-acronym/OGCN"))
+                .andExpect(jsonPath("$.joueurs", hasSize(2)));
+        mockMvc.perform(get("/api/equipes/by-acronym/PSG"))
+                .andExpect(jsonPath("$.joueurs", hasSize(0)));
+
+        // Requête par acronyme en cache
+        statistics.clear();
+        assertTrue(equipeRepository.existsByAcronym("OGCN"));
+        assertTrue(equipeRepository.existsByAcronym("OGCN"));
+        assertEquals(1, statistics.getQueryCacheHitCount());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("equipes_cache_l2_hit_ratio{region=\"equipe-joueurs\"}")));
+    }
+
+    @Test
+    void testTransferJoueur_SecondLevelCache_EvictsOnlyTouchedEntries() throws Exception {
+        // Arrange - Nice (deux joueurs), Paris (aucun) et Monaco (un joueur), lus une fois
+        for (CreateEquipeRequest request : List.of(
+                CreateEquipeRequest.builder()
+                        .name("OGC Nice")
+                        .acronym("OGCN")
+                        .budget(new BigDecimal("50000000"))
+                        .joueurs(List.of(
+                                CreateEquipeRequest.CreateJoueurRequest.builder()
+                                        .name("Kasper Schmeichel")
+                                        .position("Gardien")
+                                        .build(),
+                                CreateEquipeRequest.CreateJoueurRequest.builder()
+                                        .name("Dante")
+                                        .position("Défenseur")
+                                        .build()))
+                        .build(),
+                CreateEquipeRequest.builder()
+                        .name("Paris Saint-Germain")
+                        .acronym("PSG")
+                        .budget(new BigDecimal("500000000"))
+                        .build(),
+                CreateEquipeRequest.builder()
+                        .name("AS Monaco")
+                        .acronym("ASM")
+                        .budget(new BigDecimal("100000000"))
+                        .joueurs(List.of(CreateEquipeRequest.CreateJoueurRequest.builder()
+                                .name("Aleksandr Golovin")
+                                .position("Milieu")
+                                .build()))
+                        .build())) {
+            mockMvc.perform(post("/api/equipes")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isCreated());
+            mockMvc.perform(get("/api/equipes/by-acronym/" + request.getAcronym()))
+                    .andExpect(status().isOk());
+        }
+        Long psgId = equipeRepository.findByAcronym("PSG").orElseThrow().getId();
+        Map<String, Long> joueurIds = new HashMap<>();
+        joueurRepository.findAll().forEach(joueur -> joueurIds.put(joueur.getName(), joueur.getId()));
+
+        // Act
+        mockMvc.perform(post("/api/equipes/transfer")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new TransferJoueurRequest(joueurIds.get("Kasper Schmeichel"), psgId))))
+                .andExpect(status().isOk());
+
+        // Assert - les autres joueurs restent en cache
+        org.hibernate.Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        assertTrue(cache.containsEntity(Joueur.class, joueurIds.get("Dante")));
+        assertTrue(cache.containsEntity(Joueur.class, joueurIds.get("Aleksandr Golovin")));
+
+        // Monaco reste servi sans requête ; Nice et Paris ne relisent que leur effectif
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        mockMvc.perform(get("/api/equipes/by-acronym/ASM"))
+                .andExpect(jsonPath("$.joueurs", hasSize(1)));
+        assertEquals(0, statistics.getPrepareStatementCount());
+        mockMvc.perform(get("/api/equipes/by-acronym/OGCN"))
+                .andExpect(jsonPath("$.joueurs", hasSize(1)))
+                .andExpect(jsonPath("$.joueurs[0].name").value("Dante"));
+        mockMvc.perform(get("/api/equipes/by-acronym/PSG"))
+                .andExpect(jsonPath("$.joueurs", hasSize(1)))
+                .andExpect(jsonPath("$.joueurs[0].name").value("Kasper Schmeichel"));
+        assertEquals(2, statistics.getCollectionFetchCount());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testCreateEquipes_Bulk_BatchedInsertsAndConflicts() throws Exception {
+        // Arrange - une équipe déjà en base, 100 équipes de 5 joueurs dont un doublon
+        equipeRepository.save(Equipe.builder()
+                .name("Existing Team")
+                .acronym("EQ0")
+                .budget(new BigDecimal("30000000"))
+                .build());
+
+        List<CreateEquipeRequest> equipes = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            List<CreateEquipeRequest.CreateJoueurRequest> joueurs = new ArrayList<>();
+            for (int j = 0; j < 5; j++) {
+                joueurs.add(CreateEquipeRequest.CreateJoueurRequest.builder()
+                        .name("Joueur " + i + "-" + j)
+                        .position("Milieu")
+                        .build());
+            }
+            equipes.add(CreateEquipeRequest.builder()
+                    .name("Equipe " + i)
+                    .acronym("EQ" + i)
+                    .budget(new BigDecimal("1000000"))
+                    .joueurs(joueurs)
+                    .build());
+        }
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // Act & Assert
+        mockMvc.perform(post("/api/equipes/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new BulkCreateEquipeRequest(equipes))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(99))
+                .andExpect(jsonPath("$.conflicts").value(1))
+                .andExpect(jsonPath("$.results", hasSize(100)))
+                .andExpect(jsonPath("$.results[0].status").value("CONFLICT"))
+                .andExpect(jsonPath("$.results[1].status").value("CREATED"))
+                .andExpect(jsonPath("$.results[1].id").isNumber());
+
+        // 594 lignes insérées : les INSERT doivent être regroupés en batch
+        assertEquals(99, equipeRepository.count() - 1);
+        assertTrue(statistics.getPrepareStatementCount() < 50,
+                "Trop de requêtes SQL: " + statistics.getPrepareStatementCount());
+        // Création en masse : rien n'est copié dans le cache de second niveau
+        assertEquals(0, statistics.getSecondLevelCachePutCount());
+    }
+
+    @Test
+    void testTransferJoueur_Success() throws Exception {
+        // Arrange
+        Equipe nice = Equipe.builder()
+                .name("OGC Nice")
+                .acronym("OGCN")
+                .budget(new BigDecimal("50000000"))
+                .build();
+        Joueur schmeichel = Joueur.builder()
+                .name("Kasper Schmeichel")
+                .position("Gardien")
+                .build();
+        nice.addJoueur(schmeichel);
+        equipeRepository.save(nice);
+
+        Equipe psg = equipeRepository.save(Equipe.builder()
+                .name("Paris Saint-Germain")
+                .acronym("PSG")
+                .budget(new BigDecimal("500000000"))
+                .build());
+
+        TransferJoueurRequest request = new TransferJoueurRequest(schmeichel.getId(), psg.getId());
+
+        // Act & Assert
+        mockMvc.perform(post("/api/equipes/transfer")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.joueurName").value("Kasper Schmeichel"))
+                .andExpect(jsonPath("$.ancienneEquipe").value("OGC Nice"))
+                .andExpect(jsonPath("$.nouvelleEquipe").value("Paris Saint-Germain"))
+                .andExpect(jsonPath("$.confirmed").value(true))
+                .andExpect(header().exists(RequestQueryStatsFilter.STATEMENTS_HEADER));
+
+        assertEquals(psg.getId(), joueurRepository.findById(schmeichel.getId())
+                .orElseThrow().getEquipe().getId());
+    }
+
+    @Test
+    void testTransferJoueur_Async_AcceptedThenCompleted() throws Exception {
+        // Arrange
+        Equipe nice = Equipe.builder()
+                .name("OGC Nice")
+                .acronym("OGCN")
+                .budget(new BigDecimal("50000000"))
+                .build();
+        Joueur schmeichel = Joueur.builder()
+                .name("Kasper Schmeichel")
+                .position("Gardien")
+                .build();
+        nice.addJoueur(schmeichel);
+        equipeRepository.save(nice);
+        Equipe psg = equipeRepository.save(Equipe.builder()
+                .name("Paris Saint-Germain")
+                .acronym("PSG")
+                .budget(new BigDecimal("500000000"))
+                .build());
+
+        // Act - 202 avec l'URL de suivi
+        MvcResult accepted = mockMvc.perform(post("/api/equipes/transfer?async=true")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new TransferJoueurRequest(schmeichel.getId(), psg.getId()))))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.status").value("PENDING"))
+                .andExpect(header().string("Location", startsWith("/api/equipes/transfer/")))
+                .andReturn();
+        String location = accepted.getResponse().getHeader("Location");
+
+        // Assert - appliqué par l'écrivain
+        String status = "PENDING";
+        for (int i = 0; i < 250 && status.equals("PENDING"); i++) {
+            Thread.sleep(20);
+            status = objectMapper.readTree(mockMvc.perform(get(location))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString()).get("status").asText();
+        }
+        assertEquals("COMPLETED", status);
+        mockMvc.perform(get(location))
+                .andExpect(jsonPath("$.result.ancienneEquipe").value("OGC Nice"))
+                .andExpect(jsonPath("$.result.nouvelleEquipe").value("Paris Saint-Germain"));
+        assertEquals(psg.getId(), joueurRepository.findById(schmeichel.getId())
+                .orElseThrow().getEquipe().getId());
+    }
+
+    @Test
+    void testTransferJoueur_Async_InvalidRequest_BadRequest() throws Exception {
+        mockMvc.perform(post("/api/equipes/transfer?async=true")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/equipes/transfer/inconnu"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testTransferHistory_KeysetPagesForJoueurAndEquipe() throws Exception {
+        // Arrange - Nice -> PSG -> Monaco
+        Equipe nice = Equipe.builder()
+                .name("OGC Nice")
+                .acronym("OGCN")
+                .budget(new BigDecimal("50000000"))
+                .build();
+        Joueur schmeichel = Joueur.builder()
+                .name("Kasper Schmeichel")
+                .position("Gardien")
+                .build();
+        nice.addJoueur(schmeichel);
+        equipeRepository.save(nice);
+        Equipe psg = equipeRepository.save(Equipe.builder()
+                .name("Paris Saint-Germain")
+                .acronym("PSG")
+                .budget(new BigDecimal("500000000"))
+                .build());
+        Equipe monaco = equipeRepository.save(Equipe.builder()
+                .name("AS Monaco")
+                .acronym("ASM")
+                .budget(new BigDecimal("100000000"))
+                .build());
+
+        for (Equipe destination : List.of(psg, monaco)) {
+            mockMvc.perform(post("/api/equipes/transfer")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(
+                                    new TransferJoueurRequest(schmeichel.getId(), destination.getId()))))
+                    .andExpect(status().isOk());
+        }
+
+        // Act & Assert - joueur, page par page, du plus récent au plus ancien
+        MvcResult premiere = mockMvc.perform(get("/api/joueurs/" + schmeichel.getId() + "/transfers?size=1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].ancienneEquipeName").value("Paris Saint-Germain"))
+                .andExpect(jsonPath("$.content[0].nouvelleEquipeName").value("AS Monaco"))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andReturn();
+        String cursor = objectMapper.readTree(premiere.getResponse().getContentAsString())
+                .get("nextCursor").asText();
+
+        mockMvc.perform(get("/api/joueurs/" + schmeichel.getId() + "/transfers?size=1&cursor=" + cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].ancienneEquipeName").value("OGC Nice"))
+                .andExpect(jsonPath("$.content[0].nouvelleEquipeName").value("Paris Saint-Germain"))
+                .andExpect(jsonPath("$.hasNext").value(false));
+
+        // Équipe : départ puis arrivée, fusionnés par ordre décroissant
+        mockMvc.perform(get("/api/equipes/" + psg.getId() + "/transfers"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(2)))
+                .andExpect(jsonPath("$.content[0].ancienneEquipeId").value(psg.getId()))
+                .andExpect(jsonPath("$.content[1].nouvelleEquipeId").value(psg.getId()));
+
+        mockMvc.perform(get("/api/joueurs/999999/transfers"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/equipes/" + psg.getId() + "/transfers?cursor=abc"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testTransferHistory_TransferToCurrentTeam_ListedOnce() throws Exception {
+        // Arrange - un transfert vers l'équipe actuelle, encadré par deux autres
+        Equipe nice = Equipe.builder()
+                .name("OGC Nice")
+                .acronym("OGCN")
+                .budget(new BigDecimal("50000000"))
+                .build();
+        Joueur schmeichel = Joueur.builder()
+                .name("Kasper Schmeichel")
+                .position("Gardien")
+                .build();
+        nice.addJoueur(schmeichel);
+        equipeRepository.save(nice);
+        Equipe psg = equipeRepository.save(Equipe.builder()
+                .name("Paris Saint-Germain")
+                .acronym("PSG")
+                .budget(new BigDecimal("500000000"))
+                .build());
+
+        for (Equipe destination : List.of(psg, psg, nice)) {
+            mockMvc.perform(post("/api/equipes/transfer")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(
+                                    new TransferJoueurRequest(schmeichel.getId(), destination.getId()))))
+                    .andExpect(status().isOk());
+        }
+
+        // Act & Assert - départ, transfert PSG -> PSG, arrivée : trois entrées distinctes
+        mockMvc.perform(get("/api/equipes/" + psg.getId() + "/transfers"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(3)))
+                .andExpect(jsonPath("$.content[0].nouvelleEquipeId").value(nice.getId()))
+                .andExpect(jsonPath("$.content[1].ancienneEquipeId").value(psg.getId()))
+                .andExpect(jsonPath("$.content[1].nouvelleEquipeId").value(psg.getId()))
+                .andExpect(jsonPath("$.content[2].ancienneEquipeId").value(nice.getId()));
+
+        // Pagination : l'entrée PSG -> PSG n'apparaît que sur une page
+        MvcResult premiere = mockMvc.perform(get("/api/equipes/" + psg.getId() + "/transfers?size=2"))
+                .andExpect(jsonPath("$.content", hasSize(2)))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andReturn();
+        String cursor = objectMapper.readTree(premiere.getResponse().getContentAsString())
+                .get("nextCursor").asText();
+        mockMvc.perform(get("/api/equipes/" + psg.getId() + "/transfers?size=2&cursor=" + cursor))
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].ancienneEquipeId").value(nice.getId()))
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
+    @Test
+    void testTransferHistory_OrderedByDateNotId() throws Exception {
+        // Arrange - IDs croissants mais dates dans un autre ordre, comme deux sessions
+        // qui écrivent chacune dans leur propre bloc de la séquence
+        long joueurId = 424242L;
+        long equipeX = 434343L;
+        long equipeY = 444444L;
+        LocalDateTime midi = LocalDateTime.of(2026, 1, 31, 12, 0);
+        transferHistoryRepository.saveAll(List.of(
+                historique(joueurId, "12h", equipeX, equipeY, midi),
+                historique(joueurId, "10h", equipeY, equipeX, midi.minusHours(2)),
+                historique(joueurId, "11h", equipeX, equipeY, midi.minusHours(1))));
+
+        // Act & Assert - page par page, du plus récent au plus ancien
+        for (String url : List.of("/api/joueurs/" + joueurId + "/transfers",
+                "/api/equipes/" + equipeX + "/transfers")) {
+            List<String> ordre = new ArrayList<>();
+            String cursor = "";
+            boolean hasNext = true;
+            while (hasNext) {
+                JsonNode page = objectMapper.readTree(mockMvc.perform(get(url)
+                                .param("size", "1")
+                                .param("cursor", cursor))
+                        .andExpect(status().isOk())
+                        .andReturn().getResponse().getContentAsString());
+                page.get("content").forEach(entry -> ordre.add(entry.get("joueurName").asText()));
+                hasNext = page.get("hasNext").asBoolean();
+                cursor = page.get("nextCursor").asText();
+            }
+            assertEquals(List.of("12h", "11h", "10h"), ordre, url);
+        }
+    }
+
+    private static TransferHistory historique(long joueurId, String joueurName,
+                                              long ancienneEquipeId, long nouvelleEquipeId,
+                                              LocalDateTime transferredAt) {
+        return TransferHistory.builder()
+                .joueurId(joueurId)
+                .joueurName(joueurName)
+                .ancienneEquipeId(ancienneEquipeId)
+                .ancienneEquipeName("Equipe " + ancienneEquipeId)
+                .nouvelleEquipeId(nouvelleEquipeId)
+                .nouvelleEquipeName("Equipe " + nouvelleEquipeId)
+                .transferredAt(transferredAt)
+                .build();
+    }
+
+    @Test
+    void testSearchJoueurs_AccentInsensitive_FollowsTransfers() throws Exception {
+        // Arrange - créations par l'API : l'index est mis à jour après commit
+        CreateEquipeRequest nice = CreateEquipeRequest.builder()
+                .name("OGC Nice")
+                .acronym("OGCN")
+                .budget(new BigDecimal("50000000"))
+                .joueurs(List.of(
+                        CreateEquipeRequest.CreateJoueurRequest.builder()
+                                .name("Gaëtan Laborde").position("Attaquant").build(),
+                        CreateEquipeRequest.CreateJoueurRequest.builder()
+                                .name("Khéphren Thuram").position("Milieu").build()))
+                .build();
+        MvcResult created = mockMvc.perform(post("/api/equipes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(nice)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        JsonNode joueurs = objectMapper.readTree(created.getResponse().getContentAsString()).get("joueurs");
+        long labordeId = joueurs.get(0).get("id").asLong();
+        long thuramId = joueurs.get(1).get("id").asLong();
+        MvcResult psg = mockMvc.perform(post("/api/equipes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(CreateEquipeRequest.builder()
+                                .name("Paris Saint-Germain")
+                                .acronym("PSG")
+                                .budget(new BigDecimal("500000000"))
+                                .build())))
+                .andExpect(status().isCreated())
+                .andReturn();
+        long psgId = objectMapper.readTree(psg.getResponse().getContentAsString()).get("id").asLong();
+
+        // Act & Assert - l'index garde les joueurs du fichier de démarrage, supprimés par setUp
+        mockMvc.perform(get("/api/joueurs/search?q=khephren"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.id == " + thuramId + ")].name").value(contains("Khéphren Thuram")))
+                .andExpect(jsonPath("$[?(@.id == " + thuramId + ")].equipeName").value(contains("OGC Nice")));
+        mockMvc.perform(get("/api/joueurs/search?q=khephren&position=Attaquant"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+
+        mockMvc.perform(post("/api/equipes/transfer")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TransferJoueurRequest(labordeId, psgId))))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/joueurs/search?q=gaetan lab"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.id == " + labordeId + ")].equipeName")
+                        .value(contains("Paris Saint-Germain")));
+        mockMvc.perform(get("/api/joueurs/search"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+    }
+
+    @Test
+    void testStats_UpdatedOnCreateAndTransfer_ReconciledFromDatabase() throws Exception {
+        // Arrange - créations par l'API : les statistiques sont ajustées après commit
+        CreateEquipeRequest nice = CreateEquipeRequest.builder()
+                .name("OGC Nice")
+                .acronym("OGCN")
+                .budget(new BigDecimal("50000000"))
+                .joueurs(List.of(
+                        CreateEquipeRequest.CreateJoueurRequest.builder()
+                                .name("Kasper Schmeichel").position("Gardien").build(),
+                        CreateEquipeRequest.CreateJoueurRequest.builder()
+                                .name("Jean-Clair Todibo").position("Défenseur").build()))
+                .build();
+        MvcResult created = mockMvc.perform(post("/api/equipes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(nice)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        JsonNode niceJson = objectMapper.readTree(created.getResponse().getContentAsString());
+        long niceId = niceJson.get("id").asLong();
+        long todiboId = niceJson.get("joueurs").get(1).get("id").asLong();
+        MvcResult psg = mockMvc.perform(post("/api/equipes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(CreateEquipeRequest.builder()
+                                .name("Paris Saint-Germain")
+                                .acronym("PSG")
+                                .budget(new BigDecimal("500000000"))
+                                .build())))
+                .andExpect(status().isCreated())
+                .andReturn();
+        long psgId = objectMapper.readTree(psg.getResponse().getContentAsString()).get("id").asLong();
+
+        mockMvc.perform(post("/api/equipes/transfer")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TransferJoueurRequest(todiboId, psgId))))
+                .andExpect(status().isOk());
+
+        // Act & Assert - deux ajustements, sans requête SQL
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        mockMvc.perform(get("/api/equipes/" + niceId + "/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.squadSize").value(1))
+                .andExpect(jsonPath("$.positions.Gardien").value(1))
+                .andExpect(jsonPath("$.positions.Défenseur").doesNotExist());
+        mockMvc.perform(get("/api/equipes/" + psgId + "/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.squadSize").value(1))
+                .andExpect(jsonPath("$.positions.Défenseur").value(1))
+                .andExpect(jsonPath("$.budgetRank").value(1));
+        assertEquals(0, statistics.getPrepareStatementCount());
+
+        mockMvc.perform(get("/api/equipes/999999/stats"))
+                .andExpect(status().isNotFound());
+
+        // Reconstruction depuis la base : seules les équipes de ce test restent
+        equipeStatsReconciler.reconcile();
+        mockMvc.perform(get("/api/equipes/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.equipes").value(2))
+                .andExpect(jsonPath("$.joueurs").value(2))
+                .andExpect(jsonPath("$.totalBudget").value(550000000))
+                .andExpect(jsonPath("$.positions.Gardien").value(1))
+                .andExpect(jsonPath("$.positions.Défenseur").value(1));
+        mockMvc.perform(get("/api/equipes/" + niceId + "/stats"))
+                .andExpect(jsonPath("$.budgetRank").value(2))
+                .andExpect(jsonPath("$.squadSize").value(1));
+    }
+
+    @Test
+    void testLeaderboard_UpdatedOnCreate_WithoutQuery() throws Exception {
+        // Arrange - classement reconstruit sur la base vide, puis trois créations
+        equipeStatsReconciler.reconcile();
+        long[] ids = new long[3];
+        String[][] equipes = {{"OGC Nice", "OGCN", "50000000"}, {"AS Monaco", "ASM", "100000000"},
+                {"Stade Rennais", "SRFC", "100000000"}};
+        for (int i = 0; i < equipes.length; i++) {
+            MvcResult created = mockMvc.perform(post("/api/equipes")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(CreateEquipeRequest.builder()
+                                    .name(equipes[i][0])
+                                    .acronym(equipes[i][1])
+                                    .budget(new BigDecimal(equipes[i][2]))
+                                    .build())))
+                    .andExpect(status().isCreated())
+                    .andReturn();
+            ids[i] = objectMapper.readTree(created.getResponse().getContentAsString()).get("id").asLong();
+        }
+
+        // Act & Assert
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        mockMvc.perform(get("/api/equipes/leaderboard").param("n", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].acronym").value("ASM"))
+                .andExpect(jsonPath("$[0].rank").value(1))
+                .andExpect(jsonPath("$[1].acronym").value("SRFC"));
+        mockMvc.perform(get("/api/equipes/leaderboard/" + ids[0]))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rank").value(3))
+                .andExpect(jsonPath("$.name").value("OGC Nice"));
+        mockMvc.perform(get("/api/equipes/" + ids[2] + "/stats"))
+                .andExpect(jsonPath("$.budgetRank").value(1));
+        assertEquals(0, statistics.getPrepareStatementCount());
+
+        mockMvc.perform(get("/api/equipes/leaderboard/999999"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testTransferJoueur_UnknownJoueur_NotFound() throws Exception {
+        Equipe psg = equipeRepository.save(Equipe.builder()
+                .name("Paris Saint-Germain")
+                .acronym("PSG")
+                .budget(new BigDecimal("500000000"))
+                .build());
+
+        mockMvc.perform(post("/api/equipes/transfer")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TransferJoueurRequest(999999L, psg.getId()))))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value("Joueur non trouvé avec l'ID: 999999"));
+    }
+
+    @Test
+    void testTransferJoueur_CostIndependentOfSquadSize() throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        Equipe destination = equipeRepository.save(Equipe.builder()
+                .name("Destination")
+                .acronym("DEST")
+                .budget(new BigDecimal("1000000"))
+                .build());
+
+        long[] statements = new long[2];
+        int[] squadSizes = {5, 5000};
+        for (int k = 0; k < squadSizes.length; k++) {
+            // Arrange - équipe de départ et destination avec le même effectif
+            Equipe origine = Equipe.builder()
+                    .name("Origine " + k)
+                    .acronym("ORI" + k)
+                    .budget(new BigDecimal("1000000"))
+                    .build();
+            for (int j = 0; j < squadSizes[k]; j++) {
+                origine.addJoueur(Joueur.builder().name("Joueur " + j).position("Milieu").build());
+            }
+            equipeRepository.save(origine);
+            Long joueurId = origine.getJoueurs().get(0).getId();
+
+            statistics.clear();
+
+            // Act
+            mockMvc.perform(post("/api/equipes/transfer")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(
+                                    new TransferJoueurRequest(joueurId, destination.getId()))))
+                    .andExpect(status().isOk());
+
+            // Assert - aucun effectif chargé
+            assertEquals(0, statistics.getCollectionFetchCount());
+            statements[k] = statistics.getPrepareStatementCount();
+        }
+
+        // Joueur et équipes servis par le cache de second niveau : UPDATE + INSERT du journal,
+        // plus l'appel de la séquence du journal quand son bloc de 50 IDs est épuisé
+        for (long count : statements) {
+            assertTrue(count == 2 || count == 3, "Nombre de requêtes SQL inattendu: " + count);
+        }
+    }
+
+    @Test
+    void testTransferJoueurs_Batch_TwoLookupsAndBatchedUpdates() throws Exception {
+        // Arrange - 20 joueurs à Nice, tous transférés à Monaco sauf le dernier, transféré deux fois
+        Equipe nice = Equipe.builder()
+                .name("OGC Nice")
+                .acronym("OGCN")
+                .budget(new BigDecimal("50000000"))
+                .build();
+        for (int j = 0; j < 20; j++) {
+            nice.addJoueur(Joueur.builder().name("Joueur " + j).position("Milieu").build());
+        }
+        equipeRepository.save(nice);
+        Equipe monaco = equipeRepository.save(Equipe.builder()
+                .name("AS Monaco")
+                .acronym("ASM")
+                .budget(new BigDecimal("100000000"))
+                .build());
+        Equipe psg = equipeRepository.save(Equipe.builder()
+                .name("Paris Saint-Germain")
+                .acronym("PSG")
+                .budget(new BigDecimal("500000000"))
+                .build());
+
+        List<TransferJoueurRequest> transfers = new ArrayList<>();
+        nice.getJoueurs().forEach(joueur -> transfers.add(new TransferJoueurRequest(joueur.getId(), monaco.getId())));
+        Long dernierId = nice.getJoueurs().get(19).getId();
+        transfers.add(new TransferJoueurRequest(dernierId, psg.getId()));
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // Act & Assert
+        mockMvc.perform(post("/api/equipes/transfers/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(BatchTransferRequest.builder()
+                                .transfers(transfers)
+                                .build())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(21)))
+                .andExpect(jsonPath("$[0].ancienneEquipe").value("OGC Nice"))
+                .andExpect(jsonPath("$[0].nouvelleEquipe").value("AS Monaco"))
+                .andExpect(jsonPath("$[20].ancienneEquipe").value("AS Monaco"))
+                .andExpect(jsonPath("$[20].nouvelleEquipe").value("Paris Saint-Germain"));
+
+        // Joueurs + un UPDATE batch + un INSERT batch du journal (+ la séquence du journal
+        // si le lot franchit un bloc de 50 IDs) ; les équipes, insérées par le repository,
+        // sont lues dans le cache de second niveau
+        long count = statistics.getPrepareStatementCount();
+        assertTrue(count == 3 || count == 4, "Nombre de requêtes SQL inattendu: " + count);
+        assertEquals(3, statistics.getSecondLevelCacheHitCount());
+        assertEquals(0, statistics.getCollectionFetchCount());
+        assertEquals(psg.getId(), joueurRepository.findById(dernierId).orElseThrow().getEquipe().getId());
+    }
+
+    @Test
+    void testTransferJoueurs_Batch_AllOrNothing_RollsBack() throws Exception {
+        // Arrange
+        Equipe nice = Equipe.builder()
+                .name("OGC Nice")
+                .acronym("OGCN")
+                .budget(new BigDecimal("50000000"))
+                .build();
+        Joueur schmeichel = Joueur.builder().name("Kasper Schmeichel").position("Gardien").build();
+        nice.addJoueur(schmeichel);
+        equipeRepository.save(nice);
+        Equipe psg = equipeRepository.save(Equipe.builder()
+                .name("Paris Saint-Germain")
+                .acronym("PSG")
+                .budget(new BigDecimal("500000000"))
+                .build());
+
+        List<TransferJoueurRequest> transfers = List.of(
+                new TransferJoueurRequest(schmeichel.getId(), psg.getId()),
+                new TransferJoueurRequest(999999L, psg.getId()));
+
+        // Act & Assert - ALL_OR_NOTHING : rien n'est appliqué
+        mockMvc.perform(post("/api/equipes/transfers/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(BatchTransferRequest.builder()
+                                .transfers(transfers)
+                                .build())))
+                .andExpect(status().isNotFound());
+        assertEquals(nice.getId(), joueurRepository.findById(schmeichel.getId()).orElseThrow().getEquipe().getId());
+
+        // PER_ITEM : le transfert valide est appliqué, l'autre signalé
+        mockMvc.perform(post("/api/equipes/transfers/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(BatchTransferRequest.builder()
+                                .transfers(transfers)
+                                .mode(BatchTransferRequest.Mode.PER_ITEM)
+                                .build())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].confirmed").value(true))
+                .andExpect(jsonPath("$[1].confirmed").value(false))
+                .andExpect(jsonPath("$[1].message").value("Joueur non trouvé avec l'ID: 999999"));
+        assertEquals(psg.getId(), joueurRepository.findById(schmeichel.getId()).orElseThrow().getEquipe().getId());
+    }
+
+    @Test
+    void testGetAllEquipes_Cache_HitThenInvalidatedByWrites() throws Exception {
+        // Arrange
+        Equipe nice = Equipe.builder()
+                .name("OGC Nice")
+                .acronym("OGCN")
+                .budget(new BigDecimal("50000000"))
+                .build();
+        Joueur schmeichel = Joueur.builder().name("Kasper Schmeichel").position("Gardien").build();
+        nice.addJoueur(schmeichel);
+        equipeRepository.save(nice);
+        Equipe monaco = equipeRepository.save(Equipe.builder()
+                .name("AS Monaco")
+                .acronym("ASM")
+                .budget(new BigDecimal("100000000"))
+                .build());
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        long hitsAvant = equipePageCache.stats().getHits();
+
+        // Act & Assert - premier appel en base, second servi par le cache sans SQL
+        mockMvc.perform(get("/api/equipes?sortBy=name"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(2)));
+        statistics.clear();
+        mockMvc.perform(get("/api/equipes?sortBy=name"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.content[1].joueurs", hasSize(1)));
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(hitsAvant + 1, equipePageCache.stats().getHits());
+
+        // Un transfert invalide les pages des équipes concernées
+        mockMvc.perform(post("/api/equipes/transfer")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new TransferJoueurRequest(schmeichel.getId(), monaco.getId()))))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/equipes?sortBy=name"))
+                .andExpect(jsonPath("$.content[0].name").value("AS Monaco"))
+                .andExpect(jsonPath("$.content[0].joueurs", hasSize(1)))
+                .andExpect(jsonPath("$.content[1].joueurs", hasSize(0)));
+
+        // Une création invalide toutes les pages
+        mockMvc.perform(post("/api/equipes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(CreateEquipeRequest.builder()
+                                .name("Lille OSC")
+                                .acronym("LOSC")
+                                .budget(new BigDecimal("60000000"))
+                                .build())))
+                .andExpect(status().isCreated());
+        mockMvc.perform(get("/api/equipes?sortBy=name"))
+                .andExpect(jsonPath("$.content", hasSize(3)));
+
+        mockMvc.perform(get("/api/equipes/cache/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hits").isNumber())
+                .andExpect(jsonPath("$.misses").isNumber())
+                .andExpect(jsonPath("$.evictions").isNumber());
+    }
+
+    @Test
+    void testGetAllEquipes_ETag_NotModifiedUntilWrite() throws Exception {
+        // Arrange
+        equipeRepository.save(Equipe.builder()
+                .name("OGC Nice")
+                .acronym("OGCN")
+                .budget(new BigDecimal("50000000"))
+                .build());
+
+        String etag = mockMvc.perform(get("/api/equipes"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        long cacheAvant = equipePageCache.stats().getHits() + equipePageCache.stats().getMisses();
+
+        // Act & Assert - ETag à jour : 304 sans requête SQL ni accès au cache
+        mockMvc.perform(get("/api/equipes").header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(content().string(""));
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(cacheAvant, equipePageCache.stats().getHits() + equipePageCache.stats().getMisses());
+
+        // L'ETag d'une autre page ne convient pas
+        mockMvc.perform(get("/api/equipes?sortDir=desc").header("If-None-Match", etag))
+                .andExpect(status().isOk());
+
+        // Après une écriture, l'ancien ETag n'est plus valable
+        mockMvc.perform(post("/api/equipes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(CreateEquipeRequest.builder()
+                                .name("AS Monaco")
+                                .acronym("ASM")
+                                .budget(new BigDecimal("100000000"))
+                                .build())))
+                .andExpect(status().isCreated());
+        mockMvc.perform(get("/api/equipes").header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(etag)))
+                .andExpect(jsonPath("$.content", hasSize(2)));
+    }
+
+    @Test
+    void testGetAllEquipes_TransferDuringLoad_NoStalePageUnderNewETag() throws Exception {
+        // Arrange
+        Equipe nice = Equipe.builder()
+                .name("OGC Nice")
+                .acronym("OGCN")
+                .budget(new BigDecimal("50000000"))
+                .build();
+        Joueur schmeichel = Joueur.builder()
+                .name("Kasper Schmeichel")
+                .position("Gardien")
+                .build();
+        nice.addJoueur(schmeichel);
+        equipeRepository.save(nice);
+        Equipe psg = equipeRepository.save(Equipe.builder()
+                .name("Paris Saint-Germain")
+                .acronym("PSG")
+                .budget(new BigDecimal("500000000"))
+                .build());
+
+        // Chargement de la première page lu en base avant le transfert, publié après
+        EquipePageCache.PageKey key = new EquipePageCache.PageKey(0, 10, "name", Sort.Direction.ASC, EquipeFilter.NONE);
+        CountDownLatch lu = new CountDownLatch(1);
+        CountDownLatch publie = new CountDownLatch(1);
+        CompletableFuture<byte[]> chargement = CompletableFuture.supplyAsync(() -> equipePageCache.get(key, () -> {
+            EquipePageResponse page = equipeService.getAllEquipes(EquipeFilter.NONE,
+                    PageRequest.of(0, 10, Sort.by("name").and(Sort.by("id"))));
+            lu.countDown();
+            try {
+                publie.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return page;
+        }));
+        assertTrue(lu.await(10, TimeUnit.SECONDS));
+
+        try {
+            // Act - transfert validé pendant le chargement, puis lecture de la page
+            mockMvc.perform(post("/api/equipes/transfer")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(
+                                    new TransferJoueurRequest(schmeichel.getId(), psg.getId()))))
+                    .andExpect(status().isOk());
+            MvcResult result = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return mockMvc.perform(get("/api/equipes")).andReturn();
+                } catch (Exception ex) {
+                    throw new IllegalStateException(ex);
+                }
+            }).get(10, TimeUnit.SECONDS);
+
+            // Assert - la page servie sous le nouvel ETag contient le transfert
+            assertEquals(200, result.getResponse().getStatus());
+            JsonNode page = objectMapper.readTree(result.getResponse().getContentAsByteArray());
+            assertEquals("Paris Saint-Germain", page.at("/content/1/name").asText());
+            assertEquals("Kasper Schmeichel", page.at("/content/1/joueurs/0/name").asText());
+            assertEquals(0, page.at("/content/0/joueurs").size());
+
+            String etag = result.getResponse().getHeader("ETag");
+            mockMvc.perform(get("/api/equipes").header("If-None-Match", etag))
+                    .andExpect(status().isNotModified());
+        } finally {
+            publie.countDown();
+            chargement.join();
+        }
+
+        // Le chargement périmé n'a pas été conservé
+        mockMvc.perform(get("/api/equipes"))
+                .andExpect(jsonPath("$.content[1].joueurs[0].name").value("Kasper Schmeichel"));
+    }
+
+    @Test
+    void testExportEquipes_NdjsonInOneQuery() throws Exception {
+        // Arrange
+        Equipe nice = Equipe.builder()
+                .name("OGC Nice")
+                .acronym("OGCN")
+                .budget(new BigDecimal("50000000"))
+                .build();
+        nice.addJoueur(Joueur.builder().name("Kasper Schmeichel").position("Gardien").build());
+        nice.addJoueur(Joueur.builder().name("Jean-Clair Todibo").position("Défenseur").build());
+        equipeRepository.save(nice);
+        equipeRepository.save(Equipe.builder()
+                .name("AS Monaco")
+                .acronym("ASM")
+                .budget(new BigDecimal("100000000"))
+                .build());
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/api/equipes/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        // Assert - une ligne par équipe, équipe sans joueur comprise
+        String[] lignes = body.split("\n");
+        assertEquals(2, lignes.length);
+
+        JsonNode premiere = objectMapper.readTree(lignes[0]);
+        assertEquals("OGCN", premiere.get("acronym").asText());
+        assertEquals(2, premiere.get("joueurs").size());
+        assertEquals("Kasper Schmeichel", premiere.get("joueurs").get(0).get("name").asText());
+
+        JsonNode seconde = objectMapper.readTree(lignes[1]);
+        assertEquals("ASM", seconde.get("acronym").asText());
+        assertEquals(0, seconde.get("joueurs").size());
+
+        // Une seule requête, aucune entité chargée dans le contexte de persistance
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void testImport_Csv_CreatesTeamsAndSkipsExistingAcronyms() throws Exception {
+        // Arrange - OGCN existe déjà
+        equipeRepository.save(Equipe.builder()
+                .name("OGC Nice")
+                .acronym("OGCN")
+                .budget(new BigDecimal("50000000"))
+                .build());
+        String csv = """
+                acronym,name,budget,joueur_name,position
+                OGCN,OGC Nice,50000000,Kasper Schmeichel,Gardien
+                PSG,Paris Saint-Germain,500000000,Marquinhos,Défenseur
+                PSG,Paris Saint-Germain,500000000,"Mbappé, Kylian",Attaquant
+                ASM,AS Monaco,100000000,,
+                """;
+
+        // Act & Assert
+        mockMvc.perform(post("/api/import")
+                        .contentType("text/csv")
+                        .content(csv.getBytes(StandardCharsets.UTF_8)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.equipes").value(2))
+                .andExpect(jsonPath("$.joueurs").value(2))
+                .andExpect(jsonPath("$.conflicts").value(1))
+                .andExpect(jsonPath("$.rowsPerSecond").isNumber());
+
+        Equipe psg = equipeRepository.findByAcronym("PSG").orElseThrow();
+        assertEquals(new BigDecimal("500000000.00"), psg.getBudget());
+        assertEquals(2, joueurRepository.count());
+        assertTrue(equipeRepository.findByAcronym("ASM").isPresent());
+    }
+
+    @Test
+    void testImport_Ndjson_RoundTripsExport() throws Exception {
+        // Arrange - export de deux équipes puis base vidée
+        Equipe nice = Equipe.builder()
+                .name("OGC Nice")
+                .acronym("OGCN")
+                .budget(new BigDecimal("50000000"))
+                .build();
+        nice.addJoueur(Joueur.builder().name("Kasper Schmeichel").position("Gardien").build());
+        nice.addJoueur(Joueur.builder().name("Terem Moffi").position("Attaquant").build());
+        equipeRepository.save(nice);
+        equipeRepository.save(Equipe.builder()
+                .name("AS Monaco")
+                .acronym("ASM")
+                .budget(new BigDecimal("100000000"))
+                .build());
+
+        MvcResult export = mockMvc.perform(get("/api/equipes/export")).andReturn();
+        byte[] ndjson = mockMvc.perform(asyncDispatch(export))
+                .andReturn().getResponse().getContentAsByteArray();
+        equipeRepository.deleteAll();
+
+        // Act & Assert
+        mockMvc.perform(post("/api/import")
+                        .contentType("application/x-ndjson")
+                        .content(ndjson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.equipes").value(2))
+                .andExpect(jsonPath("$.joueurs").value(2))
+                .andExpect(jsonPath("$.conflicts").value(0));
+
+        assertEquals(2, equipeRepository.count());
+        assertEquals(2, joueurRepository.count());
+    }
+
+    @Test
+    void testImport_MalformedLine_BadRequest() throws Exception {
+        String csv = """
+                acronym,name,budget,joueur_name,position
+                OGCN,OGC Nice,beaucoup,Kasper Schmeichel,Gardien
+                """;
+
+        mockMvc.perform(post("/api/import")
+                        .contentType("text/csv")
+                        .content(csv))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(containsString("Ligne 2")));
+
+        assertEquals(0, equipeRepository.count());
+    }
+
+    @Test
+    void testImport_Csv_NonContiguousTeam_BadRequest() throws Exception {
+        // Les lignes de Nice sont séparées par celles de Monaco
+        String csv = """
+                acronym,name,budget,joueur_name,position
+                OGCN,OGC Nice,50000000,Kasper Schmeichel,Gardien
+                ASM,AS Monaco,100000000,Aleksandr Golovin,Milieu
+                OGCN,OGC Nice,50000000,Dante,Défenseur
+                """;
+
+        mockMvc.perform(post("/api/import")
+                        .contentType("text/csv")
+                        .content(csv.getBytes(StandardCharsets.UTF_8)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(containsString("Ligne 4")))
+                .andExpect(jsonPath("$.message").value(containsString("ligne 2")));
+    }
+
+    @Test
+    void testMetrics_PrometheusScrapeWithOutcomesAndQueryCounts() throws Exception {
+        // Arrange - une création, un doublon, un transfert d'un joueur inconnu, une lecture
+        String nice = objectMapper.writeValueAsString(CreateEquipeRequest.builder()
+                .name("OGC Nice")
+                .acronym("OGCN")
+                .budget(new BigDecimal("50000000"))
+                .build());
+        mockMvc.perform(post("/api/equipes").contentType(MediaType.APPLICATION_JSON).content(nice))
+                .andExpect(status().isCreated());
+        mockMvc.perform(post("/api/equipes").contentType(MediaType.APPLICATION_JSON).content(nice))
+                .andExpect(status().isConflict());
+        mockMvc.perform(post("/api/equipes/transfer")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TransferJoueurRequest(999999L, 1L))))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/equipes"))
+                .andExpect(status().isOk());
+
+        // Act & Assert
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString(
+                        "equipes_service_seconds_count{class=\"EquipeService\",method=\"createEquipe\",outcome=\"created\"}")))
+                .andExpect(content().string(containsString(
+                        "equipes_service_seconds_count{class=\"EquipeService\",method=\"createEquipe\",outcome=\"conflict\"}")))
+                .andExpect(content().string(containsString(
+                        "equipes_service_seconds_count{class=\"EquipeService\",method=\"transferJoueur\",outcome=\"not_found\"}")))
+                .andExpect(content().string(containsString(
+                        "hibernate_request_statements_count{method=\"GET\",uri=\"/api/equipes\"}")))
+                .andExpect(content().string(containsString("hibernate_request_entity_loads")))
+                .andExpect(content().string(containsString("hibernate_statements")))
+                .andExpect(content().string(containsString("cache_gets_total{cache=\"equipes.pages\"")))
+                .andExpect(content().string(containsString("http_server_requests_seconds_count")));
+    }
+}
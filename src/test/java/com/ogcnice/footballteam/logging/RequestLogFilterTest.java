@@ -0,0 +1,112 @@
+package com.ogcnice.footballteam.logging;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.slf4j.event.KeyValuePair;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestLogFilterTest {
+
+    private final Logger logger = (Logger) LoggerFactory.getLogger(RequestLogFilter.class);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    @BeforeEach
+    void setUp() {
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+    }
+
+    @Test
+    void testRequestLogged_WithKeyValues() throws Exception {
+        // Arrange
+        RequestLogFilter filter = filter(1.0, Map.of());
+
+        // Act
+        filter.doFilter(request("/api/equipes"), new MockHttpServletResponse(), chain(200));
+
+        // Assert
+        assertEquals(1, appender.list.size());
+        Map<String, Object> valeurs = appender.list.get(0).getKeyValuePairs().stream()
+                .collect(Collectors.toMap(pair -> pair.key, pair -> pair.value));
+        assertEquals("GET", valeurs.get("method"));
+        assertEquals("/api/equipes", valeurs.get("uri"));
+        assertEquals(200, valeurs.get("status"));
+        assertTrue(valeurs.containsKey("durationMs"));
+    }
+
+    @Test
+    void testEndpointRate_OverridesDefault() throws Exception {
+        RequestLogFilter filter = filter(1.0, Map.of("/api/equipes", 0.0));
+
+        filter.doFilter(request("/api/equipes"), new MockHttpServletResponse(), chain(200));
+        filter.doFilter(request("/api/equipes/{id}/transfers"), new MockHttpServletResponse(), chain(200));
+
+        assertEquals(1, appender.list.size());
+        assertTrue(appender.list.get(0).getKeyValuePairs().contains(
+                new KeyValuePair("uri", "/api/equipes/{id}/transfers")));
+    }
+
+    @Test
+    void testErrors_AlwaysLogged() throws Exception {
+        RequestLogFilter filter = filter(0.0, Map.of());
+
+        filter.doFilter(request("/api/equipes"), new MockHttpServletResponse(), chain(200));
+        filter.doFilter(request("/api/equipes"), new MockHttpServletResponse(), chain(404));
+        assertThrows(IllegalStateException.class, () -> filter.doFilter(request("/api/equipes"),
+                new MockHttpServletResponse(), (req, res) -> {
+                    throw new IllegalStateException("boom");
+                }));
+
+        assertEquals(2, appender.list.size());
+        assertTrue(appender.list.get(1).getKeyValuePairs().contains(new KeyValuePair("status", 500)));
+    }
+
+    @Test
+    void testSampling_ApproximatesRate() {
+        RequestLogFilter filter = filter(0.1, Map.of());
+
+        long journalisees = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (filter.doitJournaliser("GET", "/api/equipes", 200, 5)) {
+                journalisees++;
+            }
+        }
+
+        assertTrue(journalisees > 800 && journalisees < 1200, "journalisées: " + journalisees);
+        assertTrue(filter.doitJournaliser("GET", "/api/equipes", 200, 1000), "requête lente");
+    }
+
+    private RequestLogFilter filter(double defaultRate, Map<String, Double> rates) {
+        return new RequestLogFilter(new RequestLogProperties(true, defaultRate, Duration.ofSeconds(1),
+                Map.of("GET", rates)));
+    }
+
+    private MockHttpServletRequest request(String pattern) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", pattern);
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+        return request;
+    }
+
+    private FilterChain chain(int status) {
+        return (req, res) -> ((MockHttpServletResponse) res).setStatus(status);
+    }
+}
@@ -0,0 +1,131 @@
+package com.ogcnice.footballteam.metrics;
+
+import com.ogcnice.footballteam.exception.QueryBudgetExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestQueryStatsFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void testDebugHeader_WrittenBeforeBody() throws Exception {
+        // Arrange
+        RequestQueryStatsFilter filter = filter(true, false, null);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act - deux requêtes avant l'écriture, une après (non visible dans l'en-tête)
+        filter.doFilter(request(), response, chain(2, true));
+
+        // Assert
+        assertEquals("2", response.getHeader(RequestQueryStatsFilter.STATEMENTS_HEADER));
+        assertEquals("0", response.getHeader(RequestQueryStatsFilter.ROWS_HEADER));
+        assertEquals(3, meterRegistry.get("hibernate.request.statements")
+                .tag("uri", "/api/equipes").summary().totalAmount());
+    }
+
+    @Test
+    void testDebugHeader_DisabledByDefault() throws Exception {
+        RequestQueryStatsFilter filter = filter(false, false, null);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request(), response, chain(1, false));
+
+        assertNull(response.getHeader(RequestQueryStatsFilter.STATEMENTS_HEADER));
+    }
+
+    @Test
+    void testRowCount_Disabled_NoRowsHeaderNorMetric() throws Exception {
+        RequestQueryStatsFilter filter = new RequestQueryStatsFilter(meterRegistry,
+                new QueryStatsProperties(true, false, false, Map.of()));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request(), response, chain(1, false));
+
+        assertEquals("1", response.getHeader(RequestQueryStatsFilter.STATEMENTS_HEADER));
+        assertNull(response.getHeader(RequestQueryStatsFilter.ROWS_HEADER));
+        assertNull(meterRegistry.find("hibernate.request.rows").summary());
+    }
+
+    @Test
+    void testBudgetExceeded_CountedAndLogged() throws Exception {
+        RequestQueryStatsFilter filter = filter(false, false, 1);
+
+        filter.doFilter(request(), new MockHttpServletResponse(), chain(2, false));
+
+        assertEquals(1, meterRegistry.get("hibernate.request.budget.exceeded")
+                .tags("method", "GET", "uri", "/api/equipes").counter().count());
+    }
+
+    @Test
+    void testBudgetExceeded_FailFast() {
+        RequestQueryStatsFilter filter = filter(false, true, 1);
+
+        QueryBudgetExceededException ex = assertThrows(QueryBudgetExceededException.class,
+                () -> filter.doFilter(request(), new MockHttpServletResponse(), chain(3, false)));
+
+        assertTrue(ex.getMessage().contains("GET /api/equipes : 2 requêtes pour un budget de 1"));
+        assertEquals(1, meterRegistry.get("hibernate.request.budget.exceeded")
+                .tags("method", "GET", "uri", "/api/equipes").counter().count());
+    }
+
+    @Test
+    void testBudgetExceeded_FailFast_ThrownBeforeResponseIsWritten() {
+        RequestQueryStatsFilter filter = filter(true, true, 1);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // La requête hors budget lève l'exception dans le contrôleur, avant l'écriture du corps
+        assertThrows(QueryBudgetExceededException.class,
+                () -> filter.doFilter(request(), response, chain(2, true)));
+
+        assertFalse(response.isCommitted());
+        assertEquals(0, response.getContentAsByteArray().length);
+    }
+
+    @Test
+    void testBudgetRespected_NoCounter() throws Exception {
+        RequestQueryStatsFilter filter = filter(false, true, 3);
+
+        filter.doFilter(request(), new MockHttpServletResponse(), chain(3, false));
+
+        assertNull(meterRegistry.find("hibernate.request.budget.exceeded").counter());
+    }
+
+    private RequestQueryStatsFilter filter(boolean debugHeader, boolean failFast, Integer budget) {
+        Map<String, Map<String, Integer>> budgets = budget == null
+                ? Map.of()
+                : Map.of("GET", Map.of("/api/equipes", budget));
+        return new RequestQueryStatsFilter(meterRegistry,
+                new QueryStatsProperties(debugHeader, failFast, true, budgets));
+    }
+
+    private MockHttpServletRequest request() {
+        return new MockHttpServletRequest("GET", "/api/equipes");
+    }
+
+    /**
+     * Simule un contrôleur : le motif d'URI est posé par le DispatcherServlet,
+     * les requêtes SQL sont comptées avant l'écriture de la réponse.
+     */
+    private FilterChain chain(int statements, boolean writeThenQuery) {
+        return (request, response) -> {
+            request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/equipes");
+            for (int i = 0; i < statements; i++) {
+                RequestQueryStats.statementPrepared();
+            }
+            if (writeThenQuery) {
+                response.getOutputStream().write("[]".getBytes(StandardCharsets.UTF_8));
+                RequestQueryStats.statementPrepared();
+            }
+        };
+    }
+}
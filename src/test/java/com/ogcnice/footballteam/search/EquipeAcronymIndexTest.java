@@ -0,0 +1,39 @@
+package com.ogcnice.footballteam.search;
+
+import com.ogcnice.footballteam.repository.EquipeSummaryRow;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EquipeAcronymIndexTest {
+
+    private final EquipeAcronymIndex index = new EquipeAcronymIndex();
+
+    @Test
+    void testFind_ExactAcronym() {
+        index.add("OGCN", 1L);
+
+        assertEquals(Optional.of(1L), index.find("OGCN"));
+        assertTrue(index.find("ogcn").isEmpty());
+    }
+
+    @Test
+    void testReplace_DropsDeletedEquipes_UnlessAddedMeanwhile() {
+        index.add("OGCN", 1L);
+        List<EquipeSummaryRow> base = List.of(new EquipeSummaryRow(2L, "Paris Saint-Germain", "PSG", BigDecimal.TEN));
+
+        // Ajout pendant la lecture de la base : reconstruction non installée
+        long avant = index.modifications();
+        index.add("ASM", 3L);
+        assertFalse(index.replace(avant, base));
+        assertEquals(2, index.size());
+
+        assertTrue(index.replace(index.modifications(), base));
+        assertTrue(index.find("OGCN").isEmpty());
+        assertEquals(Optional.of(2L), index.find("PSG"));
+    }
+}
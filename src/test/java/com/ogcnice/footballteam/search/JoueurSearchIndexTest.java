@@ -0,0 +1,90 @@
+package com.ogcnice.footballteam.search;
+
+import com.ogcnice.footballteam.dto.JoueurSearchResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JoueurSearchIndexTest {
+
+    private JoueurSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new JoueurSearchIndex();
+        index.addEquipe(1L, "OGC Nice");
+        index.addEquipe(2L, "Paris Saint-Germain");
+        index.add(1L, "Gaëtan Laborde", "Attaquant", 1L, 0);
+        index.add(2L, "Khéphren Thuram", "Milieu", 1L, 0);
+        index.add(3L, "Marcus Thuram", "Attaquant", 2L, 0);
+        index.add(4L, "Jean-Clair Todibo", "Défenseur", 1L, 0);
+        index.add(5L, "Kasper Schmeichel", "Gardien", null, 0);
+    }
+
+    @Test
+    void testSearch_IgnoresAccentsAndCase() {
+        assertEquals(List.of(1L), ids(index.search("gaetan lab", null, 10)));
+        assertEquals(List.of(2L), ids(index.search("KHEPHREN", null, 10)));
+        assertEquals(List.of(2L), ids(index.search("khéphren", null, 10)));
+        assertEquals(List.of(4L), ids(index.search("clair", null, 10)));
+
+        JoueurSearchResult laborde = index.search("laborde", null, 10).get(0);
+        assertEquals("Gaëtan Laborde", laborde.getName());
+        assertEquals("OGC Nice", laborde.getEquipeName());
+    }
+
+    @Test
+    void testSearch_AllTermsMustPrefixAWord() {
+        assertEquals(List.of(2L, 3L), ids(index.search("thu", null, 10)));
+        assertEquals(List.of(3L), ids(index.search("thu mar", null, 10)));
+        assertTrue(index.search("huram", null, 10).isEmpty());
+        assertTrue(index.search("  ", null, 10).isEmpty());
+    }
+
+    @Test
+    void testSearch_FiltersPositionAndLimits() {
+        assertEquals(List.of(3L), ids(index.search("thuram", "attaquant", 10)));
+        assertEquals(List.of(4L), ids(index.search("todibo", "defenseur", 10)));
+        assertEquals(1, index.search("thuram", null, 1).size());
+    }
+
+    @Test
+    void testMoveAndAdd_UpdateResults() {
+        index.move(5L, 2L, 1);
+        index.add(5L, "Kasper Schmeichel", "Gardien", 1L, 0);
+        index.add(6L, "Dante", "Défenseur", 1L, 0);
+
+        JoueurSearchResult schmeichel = index.search("schm", null, 10).get(0);
+        assertEquals(2L, schmeichel.getEquipeId());
+        assertEquals("Paris Saint-Germain", schmeichel.getEquipeName());
+        assertEquals(List.of(6L), ids(index.search("dan", null, 10)));
+        assertEquals(6, index.size());
+    }
+
+    @Test
+    void testMove_OlderVersionIgnored() {
+        // Callbacks après commit de deux transferts exécutés dans le désordre
+        index.move(5L, 2L, 2);
+        index.move(5L, 1L, 1);
+
+        assertEquals(2L, index.search("schm", null, 10).get(0).getEquipeId());
+
+        // À version égale (même lot), le dernier transfert l'emporte
+        index.move(5L, 1L, 2);
+        assertEquals(1L, index.search("schm", null, 10).get(0).getEquipeId());
+    }
+
+    @Test
+    void testNormaliser() {
+        assertEquals("gaetan laborde", JoueurSearchIndex.normaliser("Gaëtan Laborde"));
+        assertEquals("jean clair", JoueurSearchIndex.normaliser("Jean-Clair"));
+        assertEquals("coeur", JoueurSearchIndex.normaliser("Cœur"));
+    }
+
+    private List<Long> ids(List<JoueurSearchResult> results) {
+        return results.stream().map(JoueurSearchResult::getId).toList();
+    }
+}
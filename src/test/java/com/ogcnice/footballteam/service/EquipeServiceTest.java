@@ -1,26 +1,58 @@
 package com.ogcnice.footballteam.service;
 
+import com.ogcnice.footballteam.cache.EquipeDataVersion;
+import com.ogcnice.footballteam.cache.EquipePageCache;
 import com.ogcnice.footballteam.dto.CreateEquipeRequest;
+import com.ogcnice.footballteam.dto.EquipeFilter;
+import com.ogcnice.footballteam.dto.EquipePageResponse;
+import com.ogcnice.footballteam.dto.EquipeView;
+import com.ogcnice.footballteam.dto.JoueurView;
+import com.ogcnice.footballteam.dto.TransferJoueurRequest;
+import com.ogcnice.footballteam.dto.TransferJoueurResponse;
 import com.ogcnice.footballteam.exception.EquipeAlreadyExistsException;
+import com.ogcnice.footballteam.exception.ResourceNotFoundException;
+import com.ogcnice.footballteam.exception.TransferConflictException;
 import com.ogcnice.footballteam.model.Equipe;
+import com.ogcnice.footballteam.model.Joueur;
+import com.ogcnice.footballteam.model.TransferHistory;
 import com.ogcnice.footballteam.repository.EquipeRepository;
+import com.ogcnice.footballteam.repository.JoueurRepository;
+import com.ogcnice.footballteam.repository.JoueurRow;
+import com.ogcnice.footballteam.search.EquipeAcronymIndex;
+import com.ogcnice.footballteam.search.JoueurSearchIndex;
+import com.ogcnice.footballteam.stats.BudgetLeaderboard;
+import com.ogcnice.footballteam.stats.EquipeStatsSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -33,6 +65,36 @@ class EquipeServiceTest {
     @Mock
     private EquipeRepository equipeRepository;
 
+    @Mock
+    private JoueurRepository joueurRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private EquipePageCache equipePageCache;
+
+    @Mock
+    private EquipeDataVersion equipeDataVersion;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private JoueurSearchIndex joueurSearchIndex;
+
+    @Mock
+    private EquipeAcronymIndex equipeAcronymIndex;
+
+    @Mock
+    private EquipeStatsSummary equipeStatsSummary;
+
+    @Mock
+    private BudgetLeaderboard budgetLeaderboard;
+
+    @Spy
+    private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private EquipeService equipeService;
 
@@ -51,29 +113,66 @@ class EquipeServiceTest {
     @Test
     void testGetAllEquipes_Success() {
         // Arrange
-        List<Equipe> equipes = List.of(
-                Equipe.builder().id(1L).name("OGC Nice").acronym("OGCN").budget(new BigDecimal("50000000")).build(),
-                Equipe.builder().id(2L).name("AS Monaco").acronym("ASM").budget(new BigDecimal("100000000")).build()
+        List<EquipeView> equipes = List.of(
+                new EquipeView(1L, "OGC Nice", "OGCN", new BigDecimal("50000000")),
+                new EquipeView(2L, "AS Monaco", "ASM", new BigDecimal("100000000"))
         );
-        Page<Equipe> page = new PageImpl<>(equipes);
         Pageable pageable = PageRequest.of(0, 10);
 
-        when(equipeRepository.findAll(pageable)).thenReturn(page);
+        when(equipeRepository.findViewsBy(pageable)).thenReturn(new PageImpl<>(equipes, pageable, 2));
+        when(joueurRepository.findRowsByEquipeIdIn(Set.of(1L, 2L))).thenReturn(List.of(
+                new JoueurRow(1L, 10L, "Kasper Schmeichel", "Gardien"),
+                new JoueurRow(2L, 20L, "Denis Zakaria", "Milieu"),
+                new JoueurRow(1L, 11L, "Jean-Clair Todibo", "Défenseur")));
 
         // Act
-        Page<Equipe> result = equipeService.getAllEquipes(pageable);
+        EquipePageResponse result = equipeService.getAllEquipes(pageable);
 
-        // Assert
-        assertNotNull(result);
+        // Assert - joueurs répartis entre leurs équipes
         assertEquals(2, result.getContent().size());
-        verify(equipeRepository, times(1)).findAll(pageable);
+        assertEquals(2, result.getTotalElements());
+        assertEquals(List.of(10L, 11L), result.getContent().get(0).getJoueurs().stream()
+                .map(JoueurView::getId).toList());
+        assertEquals(1, result.getContent().get(1).getJoueurs().size());
+        verify(equipeRepository, times(1)).findViewsBy(pageable);
+        verify(equipeRepository, never()).findAll(any(Pageable.class));
+    }
+
+    @Test
+    void testGetAllEquipes_EmptyPage_NoRosterQuery() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 10);
+        when(equipeRepository.findViewsBy(pageable)).thenReturn(Page.empty(pageable));
+
+        // Act
+        EquipePageResponse result = equipeService.getAllEquipes(pageable);
+
+        // Assert
+        assertTrue(result.getContent().isEmpty());
+        verify(joueurRepository, never()).findRowsByEquipeIdIn(any());
+    }
+
+    @Test
+    void testGetAllEquipes_WithFilter_UsesSpecificationQuery() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 10);
+        EquipeFilter filter = new EquipeFilter(new BigDecimal("10000000"), null, "OGC");
+        when(equipeRepository.findViews(any(), eq(pageable))).thenReturn(new PageImpl<>(
+                List.of(new EquipeView(1L, "OGC Nice", "OGCN", new BigDecimal("50000000"))), pageable, 1));
+
+        // Act
+        EquipePageResponse result = equipeService.getAllEquipes(filter, pageable);
+
+        // Assert
+        assertEquals(1, result.getTotalElements());
+        verify(equipeRepository, never()).findViewsBy(any());
+        verify(joueurRepository, times(1)).findRowsByEquipeIdIn(Set.of(1L));
     }
 
     @Test
     void testCreateEquipe_Success() {
         // Arrange
-        when(equipeRepository.existsByAcronym("OGCN")).thenReturn(false);
-        when(equipeRepository.save(any(Equipe.class))).thenAnswer(invocation -> {
+        when(equipeRepository.saveAndFlush(any(Equipe.class))).thenAnswer(invocation -> {
             Equipe equipe = invocation.getArgument(0);
             equipe.setId(1L);
             return equipe;
@@ -87,8 +186,10 @@ class EquipeServiceTest {
         assertEquals("OGC Nice", result.getName());
         assertEquals("OGCN", result.getAcronym());
         assertEquals(new BigDecimal("50000000"), result.getBudget());
-        verify(equipeRepository, times(1)).existsByAcronym("OGCN");
-        verify(equipeRepository, times(1)).save(any(Equipe.class));
+        verify(equipeRepository, times(1)).saveAndFlush(any(Equipe.class));
+        verify(equipeAcronymIndex).add("OGCN", 1L);
+        verify(equipePageCache, times(1)).invalidateAll();
+        verify(equipeDataVersion, times(1)).increment();
     }
 
     @Test
@@ -106,10 +207,14 @@ class EquipeServiceTest {
         );
         validRequest.setJoueurs(joueurs);
 
-        when(equipeRepository.existsByAcronym("OGCN")).thenReturn(false);
-        when(equipeRepository.save(any(Equipe.class))).thenAnswer(invocation -> {
+        when(equipeRepository.saveAndFlush(any(Equipe.class))).thenAnswer(invocation -> {
             Equipe equipe = invocation.getArgument(0);
             equipe.setId(1L);
+            // IDs et version initiale attribués par Hibernate à l'insertion
+            for (int i = 0; i < equipe.getJoueurs().size(); i++) {
+                equipe.getJoueurs().get(i).setId(10L + i);
+                equipe.getJoueurs().get(i).setVersion(0L);
+            }
             return equipe;
         });
 
@@ -119,21 +224,173 @@ class EquipeServiceTest {
         // Assert
         assertNotNull(result);
         assertEquals(2, result.getJoueurs().size());
+        verify(joueurSearchIndex).addEquipe(1L, "OGC Nice");
+        verify(joueurSearchIndex).add(10L, "Kasper Schmeichel", "Gardien", 1L, 0L);
+        verify(budgetLeaderboard).put(1L, "OGC Nice", "OGCN", validRequest.getBudget());
         assertEquals("Kasper Schmeichel", result.getJoueurs().get(0).getName());
         assertEquals("Gardien", result.getJoueurs().get(0).getPosition());
     }
 
     @Test
     void testCreateEquipe_DuplicateAcronym_ThrowsException() {
-        // Arrange
-        when(equipeRepository.existsByAcronym("OGCN")).thenReturn(true);
+        // Arrange - acronyme connu de l'index : rejeté sans requête
+        when(equipeAcronymIndex.find("OGCN")).thenReturn(Optional.of(1L));
+
+        // Act & Assert
+        assertThrows(EquipeAlreadyExistsException.class, () -> {
+            equipeService.createEquipe(validRequest);
+        });
+
+        verifyNoInteractions(equipeRepository);
+    }
+
+    @Test
+    void testCreateEquipe_UniqueConstraintViolation_ThrowsException() {
+        // Arrange - acronyme absent de l'index mais déjà en base
+        when(equipeRepository.saveAndFlush(any(Equipe.class))).thenThrow(new DataIntegrityViolationException(
+                "doublon", new ConstraintViolationException("doublon", null, "PUBLIC.UK_EQUIPE_ACRONYM_INDEX_7")));
 
         // Act & Assert
         assertThrows(EquipeAlreadyExistsException.class, () -> {
             equipeService.createEquipe(validRequest);
         });
+        verify(equipeAcronymIndex, never()).add(any(), anyLong());
+    }
+
+    @Test
+    void testCreateEquipe_OtherConstraintViolation_Propagated() {
+        when(equipeRepository.saveAndFlush(any(Equipe.class))).thenThrow(new DataIntegrityViolationException(
+                "null", new ConstraintViolationException("null", null, "PUBLIC.CONSTRAINT_NAME")));
+
+        assertThrows(DataIntegrityViolationException.class, () -> equipeService.createEquipe(validRequest));
+    }
+
+    /**
+     * Exécute directement le callback passé au TransactionTemplate.
+     */
+    private void runTransactionsInline() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    private static Equipe equipe(Long id, String name) {
+        return Equipe.builder().id(id).name(name).acronym(name.substring(0, 3)).budget(BigDecimal.TEN).build();
+    }
+
+    private static Joueur joueur(Equipe equipe) {
+        return Joueur.builder().id(1L).version(3L).name("Kasper Schmeichel").position("Gardien").equipe(equipe).build();
+    }
+
+    @Test
+    void testTransferJoueur_Success() {
+        // Arrange
+        runTransactionsInline();
+        Joueur joueur = joueur(equipe(1L, "OGC Nice"));
+        Equipe psg = equipe(2L, "Paris Saint-Germain");
+        when(joueurRepository.findById(1L)).thenReturn(Optional.of(joueur));
+        when(equipeRepository.findById(2L)).thenReturn(Optional.of(psg));
+
+        // Act
+        TransferJoueurResponse response = equipeService.transferJoueur(new TransferJoueurRequest(1L, 2L));
+
+        // Assert - seul le côté propriétaire est modifié, puis flushé
+        assertTrue(response.getConfirmed());
+        assertEquals("OGC Nice", response.getAncienneEquipe());
+        assertEquals("Paris Saint-Germain", response.getNouvelleEquipe());
+        assertSame(psg, joueur.getEquipe());
+        verify(joueurRepository, times(1)).flush();
+        verify(equipePageCache, times(1)).invalidateEquipes(Set.of(1L, 2L));
+        verify(equipeDataVersion, times(1)).increment();
+
+        // Le transfert est journalisé avec l'équipe quittée
+        ArgumentCaptor<TransferHistory> journal = ArgumentCaptor.forClass(TransferHistory.class);
+        verify(entityManager, times(1)).persist(journal.capture());
+        assertEquals(1L, journal.getValue().getAncienneEquipeId());
+        assertEquals("OGC Nice", journal.getValue().getAncienneEquipeName());
+        assertEquals(2L, journal.getValue().getNouvelleEquipeId());
+    }
+
+    @Test
+    void testTransferJoueur_VersionConflict_RetriedThenSucceeds() {
+        // Arrange - la première tentative perd la course, la seconde relit le joueur et passe
+        runTransactionsInline();
+        when(joueurRepository.findById(1L)).thenReturn(
+                Optional.of(joueur(equipe(1L, "OGC Nice"))),
+                Optional.of(joueur(equipe(3L, "AS Monaco"))));
+        when(equipeRepository.findById(2L)).thenReturn(Optional.of(equipe(2L, "Paris Saint-Germain")));
+        doThrow(new ObjectOptimisticLockingFailureException(Joueur.class, 1L))
+                .doNothing()
+                .when(joueurRepository).flush();
+
+        // Act
+        TransferJoueurResponse response = equipeService.transferJoueur(new TransferJoueurRequest(1L, 2L));
+
+        // Assert - le message reflète l'équipe réellement quittée
+        assertEquals("AS Monaco", response.getAncienneEquipe());
+        assertEquals(1, equipeService.getTransferConflictCount());
+        verify(entityManager, times(1)).persist(any(TransferHistory.class));
+    }
+
+    @Test
+    void testTransferJoueur_VersionConflict_RetriesExhausted() {
+        // Arrange
+        runTransactionsInline();
+        when(joueurRepository.findById(1L)).thenAnswer(invocation -> Optional.of(joueur(equipe(1L, "OGC Nice"))));
+        when(equipeRepository.findById(2L)).thenReturn(Optional.of(equipe(2L, "Paris Saint-Germain")));
+        doThrow(new ObjectOptimisticLockingFailureException(Joueur.class, 1L)).when(joueurRepository).flush();
+
+        // Act & Assert
+        assertThrows(TransferConflictException.class, () ->
+                equipeService.transferJoueur(new TransferJoueurRequest(1L, 2L)));
+        verify(joueurRepository, times(5)).flush();
+        verify(entityManager, never()).persist(any());
+    }
+
+    @Test
+    void testTransferJoueur_FreeAgent() {
+        // Arrange
+        runTransactionsInline();
+        when(joueurRepository.findById(1L)).thenReturn(Optional.of(joueur(null)));
+        when(equipeRepository.findById(2L)).thenReturn(Optional.of(equipe(2L, "OGC Nice")));
+
+        // Act
+        TransferJoueurResponse response = equipeService.transferJoueur(new TransferJoueurRequest(1L, 2L));
+
+        // Assert
+        assertEquals("Free Agent", response.getAncienneEquipe());
+        verify(equipePageCache, times(1)).invalidateEquipes(Set.of(2L));
+    }
+
+    @Test
+    void testTransferJoueur_SameEquipe_ForcesVersionIncrement() {
+        // Arrange - transfert vers l'équipe actuelle : aucun champ modifié
+        runTransactionsInline();
+        Equipe nice = equipe(1L, "OGC Nice");
+        Joueur joueur = joueur(nice);
+        when(joueurRepository.findById(1L)).thenReturn(Optional.of(joueur));
+        when(equipeRepository.findById(1L)).thenReturn(Optional.of(nice));
+
+        // Act
+        equipeService.transferJoueur(new TransferJoueurRequest(1L, 1L));
+
+        // Assert
+        verify(entityManager, times(1)).lock(joueur, LockModeType.OPTIMISTIC_FORCE_INCREMENT);
+    }
+
+    @Test
+    void testTransferJoueur_UnknownEquipe_ThrowsException() {
+        // Arrange
+        runTransactionsInline();
+        Joueur joueur = joueur(equipe(1L, "OGC Nice"));
+        when(joueurRepository.findById(1L)).thenReturn(Optional.of(joueur));
+        when(equipeRepository.findById(99L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        ResourceNotFoundException ex = assertThrows(ResourceNotFoundException.class, () ->
+                equipeService.transferJoueur(new TransferJoueurRequest(1L, 99L)));
 
-        verify(equipeRepository, times(1)).existsByAcronym("OGCN");
-        verify(equipeRepository, never()).save(any(Equipe.class));
+        assertEquals("Équipe non trouvée avec l'ID: 99", ex.getMessage());
+        assertEquals(1L, joueur.getEquipe().getId());
+        verify(joueurRepository, never()).flush();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,135 @@
+package com.ogcnice.footballteam.service;
+
+import com.ogcnice.footballteam.dto.TransferJoueurRequest;
+import com.ogcnice.footballteam.exception.TransferConflictException;
+import com.ogcnice.footballteam.model.Equipe;
+import com.ogcnice.footballteam.model.Joueur;
+import com.ogcnice.footballteam.repository.EquipeRepository;
+import com.ogcnice.footballteam.repository.JoueurRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test de charge des transferts concurrents.
+ * Des milliers de transferts se disputent une poignée de joueurs :
+ * aucun transfert ne doit être perdu (last writer wins silencieux).
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+        "logging.level.com.ogcnice.footballteam.service.EquipeService=WARN"
+})
+@AutoConfigureTestDatabase
+@Slf4j
+class TransferConcurrencyTest {
+
+    private static final int THREADS = 16;
+    private static final int TRANSFERS = 2000;
+    private static final int JOUEURS = 10;
+
+    @Autowired
+    private EquipeService equipeService;
+
+    @Autowired
+    private EquipeRepository equipeRepository;
+
+    @Autowired
+    private JoueurRepository joueurRepository;
+
+    private final List<Long> equipeIds = new ArrayList<>();
+    private final List<Long> joueurIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        equipeRepository.deleteAll();
+
+        for (int i = 0; i < 4; i++) {
+            Equipe equipe = Equipe.builder()
+                    .name("Equipe " + i)
+                    .acronym("EQ" + i)
+                    .budget(new BigDecimal("1000000"))
+                    .build();
+            if (i == 0) {
+                for (int j = 0; j < JOUEURS; j++) {
+                    equipe.addJoueur(Joueur.builder().name("Joueur " + j).position("Milieu").build());
+                }
+            }
+            equipeRepository.save(equipe);
+            equipeIds.add(equipe.getId());
+            equipe.getJoueurs().forEach(joueur -> joueurIds.add(joueur.getId()));
+        }
+    }
+
+    @Test
+    void testConcurrentTransfers_NoLostUpdate() throws Exception {
+        Map<Long, AtomicInteger> succesParJoueur = new ConcurrentHashMap<>();
+        AtomicInteger succes = new AtomicInteger();
+        AtomicInteger rejets = new AtomicInteger();
+        AtomicLong transfersRestants = new AtomicLong(TRANSFERS);
+        long conflitsAvant = equipeService.getTransferConflictCount();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+        long start = System.nanoTime();
+
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                while (transfersRestants.getAndDecrement() > 0) {
+                    Long joueurId = joueurIds.get(random.nextInt(joueurIds.size()));
+                    Long equipeId = equipeIds.get(random.nextInt(equipeIds.size()));
+                    try {
+                        equipeService.transferJoueur(new TransferJoueurRequest(joueurId, equipeId));
+                        succes.incrementAndGet();
+                        succesParJoueur.computeIfAbsent(joueurId, id -> new AtomicInteger()).incrementAndGet();
+                    } catch (TransferConflictException ex) {
+                        rejets.incrementAndGet();
+                    }
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        double secondes = (System.nanoTime() - start) / 1_000_000_000.0;
+        long conflits = equipeService.getTransferConflictCount() - conflitsAvant;
+        log.info("{} transferts en {} s ({} transferts/s) - conflits de version: {} ({} %), rejetés (409): {}",
+                TRANSFERS,
+                String.format("%.2f", secondes),
+                String.format("%.0f", TRANSFERS / secondes),
+                conflits,
+                String.format("%.1f", 100.0 * conflits / (TRANSFERS + conflits)),
+                rejets.get());
+
+        // Chaque transfert confirmé correspond à exactement une nouvelle version du joueur
+        assertEquals(TRANSFERS, succes.get() + rejets.get());
+        for (Long joueurId : joueurIds) {
+            int attendu = succesParJoueur.getOrDefault(joueurId, new AtomicInteger()).get();
+            assertEquals(attendu, joueurRepository.findById(joueurId).orElseThrow().getVersion(),
+                    "Transfert perdu pour le joueur " + joueurId);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.ogcnice.footballteam.service;
+
+import com.ogcnice.footballteam.dto.BatchTransferRequest;
+import com.ogcnice.footballteam.dto.TransferJoueurRequest;
+import com.ogcnice.footballteam.dto.TransferJoueurResponse;
+import com.ogcnice.footballteam.dto.TransferStatusResponse;
+import com.ogcnice.footballteam.exception.ResourceNotFoundException;
+import com.ogcnice.footballteam.exception.TransferQueueFullException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitaires pour TransferQueueService.
+ * L'écrivain n'est pas démarré : la file est vidée par drainOnce.
+ */
+@ExtendWith(MockitoExtension.class)
+class TransferQueueServiceTest {
+
+    @Mock
+    private EquipeService equipeService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TransferQueueService transferQueueService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        transferQueueService = new TransferQueueService(equipeService, meterRegistry, 3, 10, Duration.ofHours(1));
+    }
+
+    @Test
+    void testSubmit_PendingUntilApplied() throws Exception {
+        // Arrange
+        when(equipeService.transferJoueurs(any(), eq(BatchTransferRequest.Mode.PER_ITEM)))
+                .thenReturn(List.of(TransferJoueurResponse.createFabrizioStyle(
+                        "Kasper Schmeichel", "Gardien", "OGC Nice", "PSG")));
+
+        // Act
+        TransferStatusResponse accepted = transferQueueService.submit(new TransferJoueurRequest(1L, 2L));
+
+        // Assert
+        assertEquals(TransferStatusResponse.Status.PENDING,
+                transferQueueService.getStatus(accepted.getId()).getStatus());
+
+        assertEquals(1, transferQueueService.drainOnce(0));
+        TransferStatusResponse status = transferQueueService.getStatus(accepted.getId());
+        assertEquals(TransferStatusResponse.Status.COMPLETED, status.getStatus());
+        assertEquals("PSG", status.getResult().getNouvelleEquipe());
+        assertNotNull(status.getCompletedAt());
+    }
+
+    @Test
+    void testDrain_CoalescesMovesOfSamePlayer() throws Exception {
+        // Arrange
+        when(equipeService.transferJoueurs(any(), eq(BatchTransferRequest.Mode.PER_ITEM)))
+                .thenReturn(List.of(
+                        TransferJoueurResponse.createFabrizioStyle("A", "Milieu", "Nice", "Monaco"),
+                        TransferJoueurResponse.createFabrizioStyle("B", "Gardien", "Nice", "Lyon")));
+
+        TransferStatusResponse premier = transferQueueService.submit(new TransferJoueurRequest(1L, 2L));
+        TransferStatusResponse autre = transferQueueService.submit(new TransferJoueurRequest(9L, 3L));
+        TransferStatusResponse dernier = transferQueueService.submit(new TransferJoueurRequest(1L, 4L));
+
+        // Act
+        transferQueueService.drainOnce(0);
+
+        // Assert - une seule transaction, le joueur 1 va directement à l'équipe 4
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<TransferJoueurRequest>> captor = ArgumentCaptor.forClass(List.class);
+        verify(equipeService).transferJoueurs(captor.capture(), eq(BatchTransferRequest.Mode.PER_ITEM));
+        assertEquals(List.of(9L, 1L), captor.getValue().stream().map(TransferJoueurRequest::getJoueurId).toList());
+        assertEquals(4L, captor.getValue().get(1).getNouvelleEquipeId());
+
+        TransferStatusResponse remplace = transferQueueService.getStatus(premier.getId());
+        assertEquals(TransferStatusResponse.Status.SUPERSEDED, remplace.getStatus());
+        assertEquals(dernier.getId(), remplace.getSupersededBy());
+        assertEquals(TransferStatusResponse.Status.COMPLETED, transferQueueService.getStatus(autre.getId()).getStatus());
+        assertEquals(TransferStatusResponse.Status.COMPLETED, transferQueueService.getStatus(dernier.getId()).getStatus());
+        assertEquals(1, meterRegistry.counter("equipes.transfer.queue.coalesced").count());
+    }
+
+    @Test
+    void testSubmit_QueueFull_Rejected() {
+        // Arrange - capacité de 3
+        for (long i = 1; i <= 3; i++) {
+            transferQueueService.submit(new TransferJoueurRequest(i, 1L));
+        }
+
+        // Act & Assert
+        assertThrows(TransferQueueFullException.class,
+                () -> transferQueueService.submit(new TransferJoueurRequest(4L, 1L)));
+        assertEquals(1, meterRegistry.counter("equipes.transfer.queue.rejected").count());
+    }
+
+    @Test
+    void testDrain_BatchFailure_AppliedOneByOne() throws Exception {
+        // Arrange
+        when(equipeService.transferJoueurs(any(), any()))
+                .thenThrow(new ObjectOptimisticLockingFailureException("Joueur", 1L));
+        when(equipeService.transferJoueur(any()))
+                .thenReturn(TransferJoueurResponse.createFabrizioStyle("A", "Milieu", "Nice", "Monaco"))
+                .thenThrow(new ResourceNotFoundException("Joueur non trouvé avec l'ID: 9"));
+
+        TransferStatusResponse ok = transferQueueService.submit(new TransferJoueurRequest(1L, 2L));
+        TransferStatusResponse ko = transferQueueService.submit(new TransferJoueurRequest(9L, 2L));
+
+        // Act
+        transferQueueService.drainOnce(0);
+
+        // Assert
+        assertEquals(TransferStatusResponse.Status.COMPLETED, transferQueueService.getStatus(ok.getId()).getStatus());
+        TransferStatusResponse echec = transferQueueService.getStatus(ko.getId());
+        assertEquals(TransferStatusResponse.Status.FAILED, echec.getStatus());
+        assertEquals("Joueur non trouvé avec l'ID: 9", echec.getResult().getMessage());
+    }
+
+    @Test
+    void testGetStatus_UnknownId_NotFound() {
+        assertThrows(ResourceNotFoundException.class, () -> transferQueueService.getStatus("inconnu"));
+    }
+}
@@ -0,0 +1,82 @@
+package com.ogcnice.footballteam.stats;
+
+import com.ogcnice.footballteam.dto.LeaderboardEntry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BudgetLeaderboardTest {
+
+    private BudgetLeaderboard leaderboard;
+
+    @BeforeEach
+    void setUp() {
+        leaderboard = new BudgetLeaderboard();
+        leaderboard.put(1L, "OGC Nice", "OGCN", new BigDecimal("50000000"));
+        leaderboard.put(2L, "Paris Saint-Germain", "PSG", new BigDecimal("500000000"));
+        leaderboard.put(3L, "AS Monaco", "ASM", new BigDecimal("100000000"));
+        leaderboard.put(4L, "Stade Rennais", "SRFC", new BigDecimal("100000000"));
+    }
+
+    @Test
+    void testTop_OrderedByBudgetThenId() {
+        List<LeaderboardEntry> top = leaderboard.top(3);
+
+        assertEquals(List.of("PSG", "ASM", "SRFC"), top.stream().map(LeaderboardEntry::getAcronym).toList());
+        assertEquals(List.of(1, 2, 3), top.stream().map(LeaderboardEntry::getRank).toList());
+        assertEquals(4, leaderboard.top(50).size());
+    }
+
+    @Test
+    void testRank_AndBudgetRankWithTies() {
+        assertEquals(4, leaderboard.rank(1L).orElseThrow().getRank());
+        assertEquals(3, leaderboard.rank(4L).orElseThrow().getRank());
+        assertTrue(leaderboard.rank(99L).isEmpty());
+
+        // Ex aequo au même rang
+        assertEquals(2, leaderboard.budgetRank(new BigDecimal("100000000")));
+        assertEquals(1, leaderboard.budgetRank(new BigDecimal("900000000")));
+        assertEquals(4, leaderboard.budgetRank(new BigDecimal("50000000.00")));
+    }
+
+    @Test
+    void testPut_ExistingEquipe_Reranked() {
+        leaderboard.put(1L, "OGC Nice", "OGCN", new BigDecimal("600000000"));
+        // Création rejouée : ignorée
+        leaderboard.put(1L, "OGC Nice", "OGCN", new BigDecimal("600000000"));
+
+        assertEquals(4, leaderboard.size());
+        assertEquals(1, leaderboard.rank(1L).orElseThrow().getRank());
+        assertEquals(4, leaderboard.rank(4L).orElseThrow().getRank());
+    }
+
+    @Test
+    void testRandomUpdates_MatchSortedList() {
+        BudgetLeaderboard grand = new BudgetLeaderboard();
+        Map<Long, BigDecimal> budgets = new HashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 5_000; i++) {
+            long id = random.nextInt(1_000);
+            BigDecimal budget = BigDecimal.valueOf(random.nextInt(200));
+            budgets.put(id, budget);
+            grand.put(id, "Équipe " + id, "E" + id, budget);
+        }
+
+        List<Long> attendus = new ArrayList<>(budgets.keySet());
+        attendus.sort(Comparator.comparing((Long id) -> budgets.get(id)).reversed().thenComparing(id -> id));
+        assertEquals(attendus.size(), grand.size());
+        assertEquals(attendus, grand.top(attendus.size()).stream().map(LeaderboardEntry::getId).toList());
+        for (int i = 0; i < attendus.size(); i++) {
+            assertEquals(i + 1, grand.rank(attendus.get(i)).orElseThrow().getRank());
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.ogcnice.footballteam.stats;
+
+import com.ogcnice.footballteam.dto.EquipeStatsResponse;
+import com.ogcnice.footballteam.dto.LeagueStatsResponse;
+import com.ogcnice.footballteam.repository.EquipeSummaryRow;
+import com.ogcnice.footballteam.repository.PositionCountRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EquipeStatsSummaryTest {
+
+    private EquipeStatsSummary summary;
+
+    @BeforeEach
+    void setUp() {
+        summary = new EquipeStatsSummary();
+        summary.addEquipe(1L, "OGC Nice", "OGCN", new BigDecimal("50000000"),
+                List.of("Gardien", "Défenseur", "Défenseur"));
+        summary.addEquipe(2L, "Paris Saint-Germain", "PSG", new BigDecimal("500000000"), List.of("Attaquant"));
+        summary.addEquipe(3L, "AS Monaco", "ASM", new BigDecimal("100000000"), List.of());
+    }
+
+    @Test
+    void testEquipe_Counts() {
+        EquipeStatsResponse nice = summary.equipe(1L).orElseThrow();
+
+        assertEquals(3, nice.getSquadSize());
+        assertEquals(Map.of("Gardien", 1, "Défenseur", 2), nice.getPositions());
+        assertTrue(summary.equipe(99L).isEmpty());
+    }
+
+    @Test
+    void testTransfer_AdjustsBothTeams() {
+        summary.transfer(1L, 3L, "Défenseur");
+        summary.transfer(1L, 3L, "Gardien");
+
+        assertEquals(Map.of("Défenseur", 1), summary.equipe(1L).orElseThrow().getPositions());
+        EquipeStatsResponse monaco = summary.equipe(3L).orElseThrow();
+        assertEquals(2, monaco.getSquadSize());
+        assertEquals(Map.of("Défenseur", 1, "Gardien", 1), monaco.getPositions());
+
+        LeagueStatsResponse league = summary.league();
+        assertEquals(4, league.getJoueurs());
+        assertEquals(Map.of("Attaquant", 1L, "Défenseur", 2L, "Gardien", 1L), league.getPositions());
+    }
+
+    @Test
+    void testLeague_Totals() {
+        // Création rejouée (ex: après une reconstruction) : ignorée
+        summary.addEquipe(1L, "OGC Nice", "OGCN", new BigDecimal("50000000"), List.of("Gardien"));
+
+        LeagueStatsResponse league = summary.league();
+
+        assertEquals(3, league.getEquipes());
+        assertEquals(4, league.getJoueurs());
+        assertEquals(0, new BigDecimal("650000000").compareTo(league.getTotalBudget()));
+        assertEquals(4.0 / 3, league.getAverageSquadSize(), 1e-9);
+    }
+
+    @Test
+    void testReplace_CorrectsDriftUnlessModifiedMeanwhile() {
+        List<EquipeSummaryRow> equipes = List.of(
+                new EquipeSummaryRow(1L, "OGC Nice", "OGCN", new BigDecimal("50000000")),
+                new EquipeSummaryRow(2L, "Paris Saint-Germain", "PSG", new BigDecimal("500000000")),
+                new EquipeSummaryRow(3L, "AS Monaco", "ASM", new BigDecimal("100000000")));
+        List<PositionCountRow> counts = List.of(
+                new PositionCountRow(1L, "Gardien", 1L),
+                new PositionCountRow(1L, "Défenseur", 2L),
+                new PositionCountRow(2L, "Attaquant", 1L),
+                new PositionCountRow(3L, "Milieu", 4L));
+
+        // Un ajustement pendant la lecture : la reconstruction n'est pas installée
+        long avant = summary.modifications();
+        summary.transfer(1L, 2L, "Gardien");
+        assertEquals(-1, summary.replace(avant, equipes, counts));
+
+        // Sinon : Nice, PSG (transfert absent de la lecture) et Monaco corrigés
+        assertEquals(3, summary.replace(summary.modifications(), equipes, counts));
+        assertEquals(4, summary.equipe(3L).orElseThrow().getSquadSize());
+        assertEquals(8, summary.league().getJoueurs());
+        assertEquals(0, summary.replace(summary.modifications(), equipes, counts));
+    }
+}